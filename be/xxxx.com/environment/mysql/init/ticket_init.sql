@@ -10,12 +10,13 @@ CREATE TABLE IF NOT EXISTS `ticket`.`ticket` (
     `start_time` DATETIME NOT NULL COMMENT 'ticket sale start time',
     `end_time` DATETIME    NOT NULL COMMENT 'ticket sale end time',
     `status`   INT(11) NOT NULL DEFAULT 0 COMMENT 'ticket sale activity status', -- 0: deactive, 1: activity
-    `updated_at` DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Last update time',
+    `updated_at` DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Last update time', -- search index refresh
     `created_at`   DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Creation time',
     PRIMARY KEY (`id`),
     KEY `idx_end_time` (`end_time`), -- Very high query runtime
     KEY `idx_start_time` (`start_time`), -- Very high query runtime
-    KEY `idx_status` (`status`) -- Very high query runtime
+    KEY `idx_status` (`status`), -- Very high query runtime
+    KEY `idx_updated_at` (`updated_at`, `id`) -- search index refresh (keyset over changed rows)
     ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = 'ticket table';
 
 -- 2. ticket detail (item) table
@@ -30,16 +31,35 @@ CREATE TABLE IF NOT EXISTS `ticket`.`ticket_item` (
     `price_flash` BIGINT(20) NOT NULL COMMENT 'Discounted price during flash sale', -- Giảm giá khung giờ vàng : ví dụ: 10K/ticket
     `sale_start_time` DATETIME NOT NULL COMMENT 'Flash sale start time',
     `sale_end_time` DATETIME NOT NULL COMMENT 'Flash sale end time',
-    `status` INT(11) NOT NULL DEFAULT 0 COMMENT 'Ticket status (e.g., active/inactive)', -- Trạng thái của vé (ví dụ: hoạt động/không hoạt động)
+    `status` INT(11) NOT NULL DEFAULT 0 COMMENT 'Ticket status (e.g., active/inactive)', -- 0: inactive (trước giờ mở bán), 1: active, 2: ended (TicketItemStatus)
     `activity_id` BIGINT(20) NOT NULL COMMENT 'ID of associated activity', -- ID của hoạt động liên quan đến vé
-    `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Timestamp of the last update',
+    `version` BIGINT(20) NOT NULL DEFAULT 0 COMMENT 'Row version, +1 per update', -- version for ETag / response cache (TicketDetail @Version)
+    `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Timestamp of the last update', -- search index refresh watermark
     `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Creation timestamp',
     PRIMARY KEY (`id`),
     KEY `idx_end_time` (`sale_end_time`),
-    KEY `idx_start_time` (`sale_start_time`),
-    KEY `idx_status` (`status`)
+    KEY `idx_start_time` (`sale_start_time`, `id`), -- keyset listing without status filter (id is implicit in InnoDB, explicit for the reader)
+    KEY `idx_status_start_time` (`status`, `sale_start_time`, `id`), -- keyset listing by status: covers WHERE + ORDER BY + the selected id
+    KEY `idx_activity_id` (`activity_id`), -- items of one ticket (activity page)
+    KEY `idx_updated_at` (`updated_at`, `id`) -- search index refresh (keyset over changed rows)
     ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = 'Table for ticket details';
 
+-- 3. ticket order table
+CREATE TABLE IF NOT EXISTS `ticket`.`ticket_order` (
+    `id` BIGINT(20) NOT NULL COMMENT 'Primary key (snowflake id, assigned by the app)',
+    `user_id` BIGINT(20) NOT NULL COMMENT 'Buyer id',
+    `ticket_item_id` BIGINT(20) NOT NULL COMMENT 'ID of the purchased ticket item',
+    `activity_id` BIGINT(20) NOT NULL COMMENT 'ID of associated activity (denormalized from ticket_item)',
+    `quantity` INT(11) NOT NULL DEFAULT 1 COMMENT 'Number of tickets',
+    `amount` BIGINT(20) NOT NULL COMMENT 'Total amount (price_flash * quantity)',
+    `status` INT(11) NOT NULL DEFAULT 0 COMMENT 'Order status', -- 0: created, 1: paid, 2: cancelled
+    `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Timestamp of the last update',
+    `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Creation timestamp',
+    PRIMARY KEY (`id`),
+    KEY `idx_user_activity` (`user_id`, `activity_id`),
+    KEY `idx_ticket_item_id` (`ticket_item_id`)
+    ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = 'Table for ticket orders';
+
 -- INSERT MOCK DATA
 -- Insert data into `ticket` table
 INSERT INTO `ticket`.`ticket` (`name`, `desc`, `start_time`, `end_time`, `status`, `updated_at`, `created_at`)
@@ -0,0 +1,54 @@
+package com.xxxx.ddd.application.model;
+
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a keyset listing of ticket items plus the filter it belongs to, sent to clients as an opaque
+ * base64url token: "v1|status|fromMillis|toMillis|afterStartMillis|afterId". Clients only pass it back.
+ *
+ * @param status null = any status
+ */
+public record TicketItemCursor(Integer status, long fromMillis, long toMillis, long afterStartMillis, long afterId) {
+
+    private static final String VERSION = "v1";
+
+    // DATETIME upper bound used when no saleTo is given
+    public static final long MAX_MILLIS = 253370764800000L; // 9999-01-01T00:00:00Z
+
+    /**
+     * First page: everything from saleFrom (inclusive) — (from, 0) sorts before any item starting at from.
+     */
+    public static TicketItemCursor first(Integer status, Long fromMillis, Long toMillis) {
+        long from = fromMillis == null ? 0 : fromMillis;
+        return new TicketItemCursor(status, from, toMillis == null ? MAX_MILLIS : toMillis, from, 0);
+    }
+
+    public TicketItemCursor after(TicketDetail last) {
+        return new TicketItemCursor(status, fromMillis, toMillis, last.getSaleStartTime().getTime(), last.getId());
+    }
+
+    public String encode() {
+        String raw = String.join("|", VERSION, status == null ? "" : status.toString(),
+                Long.toString(fromMillis), Long.toString(toMillis), Long.toString(afterStartMillis), Long.toString(afterId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @return null if the token is not a cursor produced by encode()
+     */
+    public static TicketItemCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII).split("\\|", -1);
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                return null;
+            }
+            return new TicketItemCursor(parts[1].isEmpty() ? null : Integer.valueOf(parts[1]),
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]), Long.parseLong(parts[4]), Long.parseLong(parts[5]));
+        } catch (IllegalArgumentException e) { // bad base64 or number
+            return null;
+        }
+    }
+}
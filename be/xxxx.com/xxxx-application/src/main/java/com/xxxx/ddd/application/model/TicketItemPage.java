@@ -0,0 +1,14 @@
+package com.xxxx.ddd.application.model;
+
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+@Data
+@Accessors(chain = true)
+public class TicketItemPage {
+    private List<TicketDetail> items;
+    private String nextCursor; // null on the last page
+}
@@ -0,0 +1,13 @@
+package com.xxxx.ddd.application.model;
+
+import com.xxxx.ddd.application.model.enums.TicketOrderResult;
+
+/**
+ * @param orderId snowflake id, set only when result is SUCCESS (the row may not be in DB yet)
+ */
+public record TicketOrderPlacement(TicketOrderResult result, Long orderId) {
+
+    public static TicketOrderPlacement of(TicketOrderResult result) {
+        return new TicketOrderPlacement(result, null);
+    }
+}
@@ -0,0 +1,34 @@
+package com.xxxx.ddd.application.model;
+
+import com.xxxx.ddd.domain.model.entity.Ticket;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import com.xxxx.ddd.domain.model.enums.TicketItemStatus;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * Event (activity) page: the ticket, its items with live stock, and the sale-window state.
+ * Sections that could not be loaded in time are listed in {@code missing} ("ticket", "items", "stock").
+ */
+@Data
+@Accessors(chain = true)
+public class TicketPage {
+
+    private Ticket ticket;
+    private TicketItemStatus saleState;
+    private List<Item> items;
+    private List<String> missing;
+    private long elapsedMs;
+
+    @Data
+    @Accessors(chain = true)
+    public static class Item {
+        private TicketDetail detail;
+        private Long stock;
+        private boolean liveStock; // false: stock_available from DB (Redis key missing or stock branch failed)
+        private TicketItemStatus saleState;
+        private boolean soldOut;
+    }
+}
@@ -0,0 +1,30 @@
+package com.xxxx.ddd.application.model;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+
+/**
+ * Full-text search over ticket (event) and ticket_item names/descriptions, diacritic-insensitive.
+ * ready = false while the index is still loading after startup: results may be incomplete.
+ */
+@Data
+@Accessors(chain = true)
+public class TicketSearchResult {
+
+    private String query;
+    private List<Hit> tickets;
+    private List<Hit> items;
+    private boolean ready;
+    private long elapsedMicros;
+
+    @Data
+    @Accessors(chain = true)
+    public static class Hit {
+        private long id;
+        private Long activityId; // items only: the ticket (event) they belong to
+        private String name;
+        private int score;
+    }
+}
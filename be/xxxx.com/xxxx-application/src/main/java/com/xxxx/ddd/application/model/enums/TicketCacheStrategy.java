@@ -0,0 +1,13 @@
+package com.xxxx.ddd.application.model.enums;
+
+/**
+ * Read strategies of TicketDetailCacheService, see docs/6_ticket-cache-strategy.md.
+ */
+public enum TicketCacheStrategy {
+    DB,             // no cache
+    NORMAL,         // LEVEL 1 - Redis cache-aside
+    VIP,            // LEVEL 2 - Redis + distributed lock
+    LOCAL,          // LEVEL 3 - Guava + Redis + distributed lock
+    TIERED,         // LEVEL 3 via @TieredCacheable
+    LOGICAL_EXPIRY  // LEVEL 4 - stale copy always served, async rebuild behind a SET NX mutex
+}
@@ -0,0 +1,11 @@
+package com.xxxx.ddd.application.model.enums;
+
+public enum TicketOrderResult {
+    SUCCESS,
+    SOLD_OUT,            // stock is 0 (or the item is in the node-local sold-out set)
+    NOT_ENOUGH_STOCK,    // stock > 0 but less than the requested quantity
+    LIMIT_EXCEEDED,      // per-user purchase limit for the activity
+    NOT_FOUND,
+    NOT_ON_SALE,         // outside the item's sale window
+    BUSY                 // Redis unavailable, stock cannot be checked
+}
@@ -1,5 +1,12 @@
 package com.xxxx.ddd.application.service.event;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface EventAppService {
     public String sayHi(String name);
+
+    // external product API (outbound.fake-store.base-url), through the pooled outbound HTTP client
+    public String getExternalProduct(int productId);
+
+    public CompletableFuture<String> getExternalProductAsync(int productId);
 }
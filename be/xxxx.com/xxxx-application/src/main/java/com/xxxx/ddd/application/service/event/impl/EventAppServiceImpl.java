@@ -2,17 +2,38 @@ package com.xxxx.ddd.application.service.event.impl;
 
 import com.xxxx.ddd.application.service.event.EventAppService;
 import com.xxxx.ddd.domain.service.FirstDomainService;
+import com.xxxx.ddd.infrastructure.http.OutboundHttpService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class EventAppServiceImpl implements EventAppService {
     // call Domain Service
     @Autowired
     private FirstDomainService firstDomainService;
 
+    @Autowired
+    private OutboundHttpService outboundHttpService;
+
+    // point it to a local stub server when testing
+    @Value("${outbound.fake-store.base-url:https://fakestoreapi.com}")
+    private String fakeStoreBaseUrl;
+
     @Override
     public String sayHi(String name) {
         return firstDomainService.sayHi(name);
     }
+
+    @Override
+    public String getExternalProduct(int productId) {
+        return outboundHttpService.get(fakeStoreBaseUrl + "/products/" + productId);
+    }
+
+    @Override
+    public CompletableFuture<String> getExternalProductAsync(int productId) {
+        return outboundHttpService.getAsync(fakeStoreBaseUrl + "/products/" + productId);
+    }
 }
@@ -0,0 +1,11 @@
+package com.xxxx.ddd.application.service.ticket;
+
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking port of {@link TicketDetailAppService} (L1 → reactive Redis → DB on a bounded elastic worker).
+ */
+public interface ReactiveTicketDetailAppService {
+    Mono<TicketDetail> getTicketDetailById(Long ticketId); // empty when the detail does not exist
+}
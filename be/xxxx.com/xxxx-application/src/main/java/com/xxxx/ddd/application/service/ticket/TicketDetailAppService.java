@@ -1,7 +1,18 @@
 package com.xxxx.ddd.application.service.ticket;
 
+import com.xxxx.ddd.application.model.TicketItemCursor;
+import com.xxxx.ddd.application.model.TicketItemPage;
+import com.xxxx.ddd.application.model.enums.TicketCacheStrategy;
 import com.xxxx.ddd.domain.model.entity.TicketDetail;
 
 public interface TicketDetailAppService {
     TicketDetail getTicketDetailById(Long ticketId); // should convert to TickDetailDTO by Application Module
+
+    TicketDetail getTicketDetailById(Long ticketId, TicketCacheStrategy strategy); // explicit strategy, e.g. for benchmarks
+
+    Long getTicketDetailVersion(Long ticketId); // ticket_item.version known by this node, null if unknown
+
+    boolean isSoldOut(Long ticketId); // node-local sold-out bitmap, no I/O
+
+    TicketItemPage listTicketDetails(TicketItemCursor cursor, int size); // keyset page, DB (not cached)
 }
@@ -0,0 +1,7 @@
+package com.xxxx.ddd.application.service.ticket;
+
+import com.xxxx.ddd.application.model.TicketOrderPlacement;
+
+public interface TicketOrderAppService {
+    TicketOrderPlacement placeOrder(Long ticketItemId, Long userId, int quantity);
+}
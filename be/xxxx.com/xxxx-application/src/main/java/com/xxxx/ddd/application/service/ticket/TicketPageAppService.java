@@ -0,0 +1,7 @@
+package com.xxxx.ddd.application.service.ticket;
+
+import com.xxxx.ddd.application.model.TicketPage;
+
+public interface TicketPageAppService {
+    TicketPage getTicketPage(Long ticketId); // null if the ticket does not exist
+}
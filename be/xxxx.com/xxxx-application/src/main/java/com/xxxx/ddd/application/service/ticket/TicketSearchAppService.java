@@ -0,0 +1,7 @@
+package com.xxxx.ddd.application.service.ticket;
+
+import com.xxxx.ddd.application.model.TicketSearchResult;
+
+public interface TicketSearchAppService {
+    TicketSearchResult search(String query, int limit);
+}
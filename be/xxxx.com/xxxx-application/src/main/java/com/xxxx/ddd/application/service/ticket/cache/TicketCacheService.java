@@ -0,0 +1,60 @@
+package com.xxxx.ddd.application.service.ticket.cache;
+
+import com.xxxx.ddd.domain.model.entity.Ticket;
+import com.xxxx.ddd.domain.service.TicketDomainService;
+import com.xxxx.ddd.infrastructure.cache.tiered.TieredCacheAspect;
+import com.xxxx.ddd.infrastructure.cache.tiered.TieredCacheable;
+import com.xxxx.ddd.infrastructure.persistence.event.EntityChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Ticket (event) header read by the page endpoint, cached through @TieredCacheable: L1 → Redis → lock → DB.
+ *
+ * A change committed through JPA evicts L1 of this node and the Redis entry; other nodes keep their L1 copy
+ * until localTtlSeconds (kept short for that reason).
+ * The lock wait stays below the page's ticket deadline: a loser re-checks Redis and loads itself (single-flight).
+ */
+@Service
+@Slf4j
+public class TicketCacheService {
+
+    public static final String TICKET_KEY_PREFIX = "PRO_TICKET:TIERED:TICKET";
+    private static final String CACHE_NAME = "ticket";
+
+    @Autowired
+    private TicketDomainService ticketDomainService;
+
+    @Autowired
+    private TieredCacheAspect tieredCacheAspect;
+
+    // timeoutMillis bounds the DB query on a double miss (MAX_EXECUTION_TIME); it is not part of the key
+    @TieredCacheable(
+            cacheName = CACHE_NAME,
+            key = "'" + TICKET_KEY_PREFIX + "' + #p0",
+            localMaxSize = 1_000,
+            localTtlSeconds = 30,
+            redisTtlSeconds = 3600,
+            lockKeyPrefix = "PRO_LOCK_KEY_TICKET:",
+            lockWaitMillis = 200
+    )
+    public Ticket getTicketById(Long ticketId, long timeoutMillis) {
+        return ticketDomainService.getTicketById(ticketId, timeoutMillis);
+    }
+
+    // INSERT too: the id may be cached as "not found"
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entityType() != Ticket.class || !(event.id() instanceof Long id)) {
+            return;
+        }
+        tieredCacheAspect.evict(CACHE_NAME, getTicketKey(id));
+        log.debug("evicted ticket cache: id={}", id);
+    }
+
+    public String getTicketKey(Long ticketId) {
+        return TICKET_KEY_PREFIX + ticketId;
+    }
+}
@@ -0,0 +1,25 @@
+package com.xxxx.ddd.application.service.ticket.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis / local value of the LEVEL 4 (logical expiry) strategy.
+ * The key itself has no short TTL: logicalExpireAt only says when the copy should be rebuilt,
+ * the stale copy keeps being served until the rebuild replaces it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TicketDetailCacheEntry {
+    private TicketDetail ticketDetail;
+    private long logicalExpireAt; // epoch millis
+
+    @JsonIgnore
+    public boolean isLogicallyExpired() {
+        return System.currentTimeMillis() >= logicalExpireAt;
+    }
+}
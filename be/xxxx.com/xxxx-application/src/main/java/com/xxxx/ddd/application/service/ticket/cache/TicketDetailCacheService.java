@@ -4,19 +4,56 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.xxxx.ddd.domain.model.entity.TicketDetail;
 import com.xxxx.ddd.domain.service.TicketDetailDomainService;
+import com.xxxx.ddd.infrastructure.cache.invalidation.CacheInvalidationTopic;
+import com.xxxx.ddd.infrastructure.cache.local.LongKeyCache;
 import com.xxxx.ddd.infrastructure.cache.redis.RedisInfrasService;
+import com.xxxx.ddd.infrastructure.cache.tiered.TieredCacheAspect;
+import com.xxxx.ddd.infrastructure.cache.tiered.TieredCacheEvict;
+import com.xxxx.ddd.infrastructure.cache.tiered.TieredCacheSpec;
+import com.xxxx.ddd.infrastructure.cache.tiered.TieredCacheable;
+import com.xxxx.ddd.infrastructure.cache.tiered.TieredLockPolicy;
+import com.xxxx.ddd.infrastructure.concurrent.SingleFlight;
 import com.xxxx.ddd.infrastructure.distributed.redisson.RedisDistributedLocker;
 import com.xxxx.ddd.infrastructure.distributed.redisson.RedisDistributedService;
+import com.xxxx.ddd.infrastructure.jfr.TicketCacheLookupEvent;
+import com.xxxx.ddd.infrastructure.jfr.TicketDbLoadEvent;
+import com.xxxx.ddd.infrastructure.persistence.event.EntityChangedEvent;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 public class TicketDetailCacheService {
 
+    // @TieredCacheable key of getTicketDefaultCacheTiered: prefix + id; also the Redis tier of LEVEL 3 and the reactive path
+    public static final String TIERED_ITEM_KEY_PREFIX = "PRO_TICKET:TIERED:ITEM";
+    private static final String TIERED_CACHE_NAME = "ticketDetail";
+    private static final long TIERED_REDIS_TTL_SECONDS = 3600;
+    private static final long TIERED_NULL_TTL_SECONDS = 60;
+    private static final String TIERED_LOCK_KEY_PREFIX = "PRO_LOCK_KEY_ITEM:";
+    // Redis / lock settings of getTicketDefaultCacheTiered, for the callers that keep their own L1
+    public static final TieredCacheSpec TIERED_ITEM_SPEC = new TieredCacheSpec(TIERED_REDIS_TTL_SECONDS, TIERED_NULL_TTL_SECONDS,
+            TieredLockPolicy.DISTRIBUTED, TIERED_LOCK_KEY_PREFIX, 1000, 5000);
+
     @Autowired
     private RedisDistributedService redisDistributedService;
 
@@ -26,14 +63,78 @@ public class TicketDetailCacheService {
     @Autowired
     private TicketDetailDomainService ticketDetailDomainService;
 
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private TieredCacheAspect tieredCacheAspect;
+
+    @Autowired
+    private CacheInvalidationTopic cacheInvalidationTopic;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // present only with ticket.offheap.enabled=true; replaces the Guava local / stale caches for items that fit
+    @Autowired(required = false)
+    private TicketDetailOffHeapStore ticketDetailOffHeapStore;
+
+    // caps concurrent DB loads while Redis is down (resilience4j.bulkhead.instances.ticketDb)
+    private Bulkhead ticketDbBulkhead;
+
+    // replaces the Redisson lock while Redis is down: one DB load per id per node
+    private final SingleFlight<Long, TicketDetail> ticketDetailSingleFlight = new SingleFlight<>();
+
+    // LEVEL 4: how long a copy is considered fresh before a rebuild is triggered
+    @Value("${ticket.cache.logical-ttl-seconds:30}")
+    private long logicalTtlSeconds;
+
+    // LEVEL 4: rebuilds run off the request thread
+    private final ExecutorService rebuildExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // LEVEL 4: ids being rebuilt by this node — skips the SET NX round trip for every request while a rebuild runs
+    private final Set<Long> rebuildingIds = ConcurrentHashMap.newKeySet();
+
+    // KEYS[1] = rebuild lock key; ARGV[1] = owner token (both sides go through the same value serializer)
+    private static final RedisScript<Long> RELEASE_REBUILD_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    // L1 expire-after-write (LongKeyCache and off-heap copies)
+    static final long LOCAL_CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    // stale (degraded mode) copies, Guava and off-heap
+    static final long STALE_CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(60);
+
+    // primitive long keys (no boxing), lock-free reads, W-TinyLFU admission — see LongKeyCache / xxxx-benchmark
+    private final static LongKeyCache<TicketDetail> ticketDetailLocalCache = new LongKeyCache<>(100_000, LOCAL_CACHE_TTL_MILLIS, TimeUnit.MILLISECONDS);
+
+    // same entries as ticketDetailLocalCache with a longer TTL; only read while Redis is down (degraded mode)
+    private final static Cache<Long, TicketDetail> ticketDetailStaleCache = CacheBuilder.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(STALE_CACHE_TTL_MILLIS, TimeUnit.MILLISECONDS)
+            .build();
 
-    // use guava
-    private final static Cache<Long, TicketDetail> ticketDetailLocalCache = CacheBuilder.newBuilder()
-            .initialCapacity(10)
-            .concurrencyLevel(16)  // số lõi của cpu echo $NUMBER_OF_PROCESSORS /systemctl -n hw.physicalcpu
+    // LEVEL 4 local copy; physical expiry only bounds memory, freshness is logicalExpireAt
+    private final static Cache<Long, TicketDetailCacheEntry> ticketDetailLogicalCache = CacheBuilder.newBuilder()
+            .maximumSize(100_000)
             .expireAfterWrite(10, TimeUnit.MINUTES)
             .build();
 
+    // id -> version (ticket_item.version) of the last copy served by this node.
+    // Lets the controller answer conditional GETs (ETag) without loading the entity;
+    // dropped on every node through CacheInvalidationTopic when the item changes.
+    private final static Cache<Long, Long> ticketDetailVersionCache = CacheBuilder.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
+
+    @PostConstruct
+    public void init() {
+        ticketDbBulkhead = bulkheadRegistry.bulkhead("ticketDb");
+    }
+
 
     /**
      * LEVEL 1 - NORMAL: Simple Redis cache-aside (no lock).
@@ -41,17 +142,17 @@ public class TicketDetailCacheService {
      */
     public TicketDetail getTicketDefaultCacheNormal(Long id, Long version) {
         // 1. get item by Redis
-        TicketDetail ticketDetail = redisInfrasService.getObject(getEventItemKey(id), TicketDetail.class);
+        TicketDetail ticketDetail = getRedisTicketDetail(id);
 
         // cache hit
         if (ticketDetail != null) {
-            log.info("cache hit: id={}, version={}, data={}", id, version, ticketDetail);
+            log.debug("cache hit: id={}", id);
             return ticketDetail;
         }
 
         // cache miss — go to DB
-        log.info("cache miss: id={}, version={}", id, version);
-        ticketDetail = ticketDetailDomainService.getTicketDetailById(id);
+        log.debug("cache miss: id={}", id);
+        ticketDetail = loadTicketDetail(id, TicketDbLoadEvent.SOURCE_NORMAL);
 
         if (ticketDetail != null) {
             redisInfrasService.setObject(getEventItemKey(id), ticketDetail);
@@ -66,16 +167,14 @@ public class TicketDetailCacheService {
      */
     public TicketDetail getTicketDefaultCacheVip(Long id, long version) {
         // 1. try Redis first
-        TicketDetail ticketDetail = redisInfrasService.getObject(getEventItemKey(id), TicketDetail.class);
-
-        log.info("cache hit: id={}, version={}, data={}", id, version, ticketDetail);
+        TicketDetail ticketDetail = getRedisTicketDetail(id);
 
         if (ticketDetail != null) {
-            log.info("From distributed cache (no lock needed): id={}", id);
+            log.debug("From distributed cache (no lock needed): id={}", id);
             return ticketDetail;
         }
 
-        log.info("cache miss: id={}, version={}", id, version);
+        log.debug("cache miss: id={}", id);
 
         // 2. acquire distributed lock — only one thread rebuilds cache
         RedisDistributedLocker locker = redisDistributedService.getDistributedLock("PRO_LOCK_KEY_ITEM" + id);
@@ -92,15 +191,15 @@ public class TicketDetailCacheService {
             }
 
             // double-check cache after acquiring lock (another thread may have populated it)
-            ticketDetail = redisInfrasService.getObject(getEventItemKey(id), TicketDetail.class);
+            ticketDetail = getRedisTicketDetail(id);
 
             if (ticketDetail != null) {
-                log.info("Cache hit after acquiring lock (double-check): id={}", id);
+                log.debug("Cache hit after acquiring lock (double-check): id={}", id);
                 return ticketDetail;
             }
 
             // still not in cache — fetch from DB
-            ticketDetail = ticketDetailDomainService.getTicketDetailById(id);
+            ticketDetail = loadTicketDetail(id, TicketDbLoadEvent.SOURCE_LOCKED);
 
             if (ticketDetail == null) {
                 log.info("Ticket not found in DB for id={}, caching null to prevent penetration", id);
@@ -126,90 +225,345 @@ public class TicketDetailCacheService {
 
     private TicketDetail getTicketDetailLocalCache(Long id) {
         try {
-            return ticketDetailLocalCache.getIfPresent(id);
+            if (ticketDetailOffHeapStore != null) {
+                TicketCacheLookupEvent event = new TicketCacheLookupEvent();
+                event.begin();
+                TicketDetail ticketDetail = ticketDetailOffHeapStore.get(id, LOCAL_CACHE_TTL_MILLIS);
+                event.finish(id, TicketCacheLookupEvent.TIER_L1_OFFHEAP, ticketDetail != null);
+                if (ticketDetail != null) {
+                    return ticketDetail;
+                }
+            }
+            TicketCacheLookupEvent event = new TicketCacheLookupEvent();
+            event.begin();
+            TicketDetail ticketDetail = ticketDetailLocalCache.getIfPresent(id);
+            event.finish(id, TicketCacheLookupEvent.TIER_L1, ticketDetail != null);
+            return ticketDetail;
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
     /**
-     * LEVEL 3 - LOCAL + DISTRIBUTED + LOCK: Two-layer cache (Guava → Redis) + distributed lock.
-     * Fastest reads: in-process Guava cache absorbs the hottest traffic.
-     * Distributed lock still guards DB for cold misses.
+     * The order path's fields of the item. An off-heap L1 hit reads them through the flyweight;
+     * anything else goes through getTicketDefaultCacheLocal and is copied from the entity.
+     */
+    public TicketSaleInfo getTicketSaleInfo(Long id, long version) {
+        if (ticketDetailOffHeapStore != null) {
+            TicketCacheLookupEvent event = new TicketCacheLookupEvent();
+            event.begin();
+            long minCachedAt = System.currentTimeMillis() - LOCAL_CACHE_TTL_MILLIS;
+            TicketSaleInfo saleInfo = ticketDetailOffHeapStore.read(id,
+                    record -> record.getCachedAt() >= minCachedAt ? TicketSaleInfo.of(record) : null);
+            event.finish(id, TicketCacheLookupEvent.TIER_L1_OFFHEAP, saleInfo != null);
+            if (saleInfo != null) {
+                return saleInfo;
+            }
+        }
+        TicketDetail ticketDetail = getTicketDefaultCacheLocal(id, version);
+        return ticketDetail == null ? null : TicketSaleInfo.of(ticketDetail);
+    }
+
+    /**
+     * Non-blocking L1 lookup only (no Redis, no DB) — used by the reactive read path.
+     */
+    public TicketDetail peekLocalCache(Long id) {
+        return getTicketDetailLocalCache(id);
+    }
+
+    public void putLocalCache(Long id, TicketDetail ticketDetail) {
+        if (ticketDetail == null) {
+            return;
+        }
+        if (ticketDetailOffHeapStore != null) {
+            if (ticketDetailOffHeapStore.put(ticketDetail)) {
+                // an older copy that did not fit off-heap before must not linger
+                ticketDetailLocalCache.invalidate(id);
+                ticketDetailStaleCache.invalidate(id);
+                return;
+            }
+            // off-heap is read first: an old record there would shadow the fresh Guava copy
+            ticketDetailOffHeapStore.remove(id);
+        }
+        ticketDetailLocalCache.put(id, ticketDetail);
+        ticketDetailStaleCache.put(id, ticketDetail);
+    }
+
+    /**
+     * Live L1 entries with their age — read by TicketDetailLocalCacheSnapshot on shutdown.
+     */
+    void forEachLocalCacheEntry(LongKeyCache.EntryVisitor<TicketDetail> visitor) {
+        ticketDetailLocalCache.forEach(visitor);
+    }
+
+    /**
+     * Put a validated snapshot entry back into L1; it keeps the TTL it had left at shutdown.
+     */
+    void restoreLocalCache(TicketDetail ticketDetail, long ageMillis) {
+        ticketDetailLocalCache.put(ticketDetail.getId(), ticketDetail, ageMillis, TimeUnit.MILLISECONDS);
+        ticketDetailStaleCache.put(ticketDetail.getId(), ticketDetail);
+    }
+
+    /**
+     * LEVEL 3 - LOCAL + DISTRIBUTED + LOCK: Two-layer cache (local → Redis) + distributed lock.
+     * Fastest reads: the in-process cache (LongKeyCache / off-heap) absorbs the hottest traffic.
+     * Below it, the tiered facility (TieredCacheAspect.getOrLoad, same flow and Redis entry as getTicketDefaultCacheTiered)
+     * reads Redis and guards DB with the lock for cold misses.
      */
     public TicketDetail getTicketDefaultCacheLocal(Long id, long version) {
 
         // 1. local (in-process) cache — fastest, zero network
         TicketDetail ticketDetail = getTicketDetailLocalCache(id);
 
-        log.info("local cache lookup: id={}, version={}, data={}", id, version, ticketDetail);
-
         if (ticketDetail != null) {
-            log.info("From local cache: id={}", id);
+            log.debug("From local cache: id={}", id);
             return ticketDetail;
         }
 
-        log.info("local cache miss: id={}, version={}", id, version);
+        log.debug("local cache miss: id={}", id);
 
-        // 2. distributed Redis cache
-        ticketDetail = redisInfrasService.getObject(getEventItemKey(id), TicketDetail.class);
-        if (ticketDetail != null) {
-            log.info("From distributed cache: id={}", id);
-            ticketDetailLocalCache.put(id, ticketDetail);
-            return ticketDetail;
+        // Redis down (circuit breaker open) → degraded mode: extended-TTL local copy, no Redis, no lock
+        if (!redisInfrasService.isAvailable()) {
+            return getTicketDetailDegraded(id);
         }
 
-        // 3. both caches missed — acquire distributed lock before hitting DB
-        RedisDistributedLocker locker = redisDistributedService.getDistributedLock("PRO_LOCK_KEY_ITEM" + id);
+        // 2. Redis → 3. lock, double-check, DB (null cached for TIERED_NULL_TTL_SECONDS); Redisson down → single-flight
+        return tieredCacheAspect.getOrLoad(getTieredItemKey(id), TicketDetail.class, TIERED_ITEM_SPEC,
+                () -> loadTicketDetail(id, TicketDbLoadEvent.SOURCE_LOCKED),
+                loaded -> {
+                    if (loaded != null) {
+                        putLocalCache(id, loaded);
+                    }
+                });
+    }
 
-        try {
-            boolean isLock = locker.tryLock(1, 5, TimeUnit.SECONDS);
 
-            // LƯu ý: cho dù thành công hay ko cũng phải unlock, bằng mọi giá
-            // LƯu ý: cho dù thành công hay ko cũng phải unlock, bằng mọi giá
-            // LƯu ý: cho dù thành công hay ko cũng phải unlock, bằng mọi giá
-            if (!isLock) {
-                log.info("Failed to acquire lock, returning stale/null for id={}", id);
-                return ticketDetail;
+    /**
+     * Degraded mode (Redis unreachable):
+     * 1. serve the extended-TTL local copy if any;
+     * 2. otherwise load from DB once per id on this node (SingleFlight), with DB concurrency capped by the bulkhead;
+     *    if the bulkhead is full, return null instead of queueing more DB calls.
+     * Recovery is automatic: once the circuit breakers close again, the normal path is used.
+     */
+    private TicketDetail getTicketDetailDegraded(Long id) {
+        TicketCacheLookupEvent event = new TicketCacheLookupEvent();
+        event.begin();
+        TicketDetail stale = ticketDetailOffHeapStore == null ? null : ticketDetailOffHeapStore.get(id, STALE_CACHE_TTL_MILLIS);
+        if (stale == null) {
+            stale = ticketDetailStaleCache.getIfPresent(id);
+        }
+        event.finish(id, TicketCacheLookupEvent.TIER_STALE, stale != null);
+        if (stale != null) {
+            log.debug("Degraded mode, from extended local cache: id={}", id);
+            return stale;
+        }
+
+        return ticketDetailSingleFlight.execute(id, () -> {
+            TicketDetail ticketDetail;
+            try {
+                ticketDetail = ticketDbBulkhead.executeSupplier(() -> loadTicketDetail(id, TicketDbLoadEvent.SOURCE_DEGRADED));
+            } catch (BulkheadFullException e) {
+                log.warn("Degraded mode, DB bulkhead full, returning null for id={}", id);
+                return null;
             }
+            if (ticketDetail != null) {
+                putLocalCache(id, ticketDetail);
+            }
+            return ticketDetail;
+        });
+    }
 
-            // double-check Redis after acquiring lock
-            ticketDetail = redisInfrasService.getObject(getEventItemKey(id), TicketDetail.class);
 
-            if (ticketDetail != null) {
-                log.info("Redis hit after acquiring lock (double-check): id={}", id);
-                ticketDetailLocalCache.put(id, ticketDetail);
-                return ticketDetail;
+    /**
+     * LEVEL 4 - LOGICAL EXPIRY: no thread waits for a lock and nobody gets null during a rebuild.
+     * 1. local entry → Redis entry; if logically fresh, return it
+     * 2. if logically expired: claim the rebuild with SET NX (PRO_LOCK_KEY_REBUILD{id}), rebuild async,
+     *    and return the stale copy right away — losers of the SET NX also return the stale copy
+     * 3. cold key (nothing anywhere): load once per node (SingleFlight) and write the entry
+     */
+    public TicketDetail getTicketDefaultCacheLogicalExpiry(Long id) {
+        // 1. local
+        TicketCacheLookupEvent localEvent = new TicketCacheLookupEvent();
+        localEvent.begin();
+        TicketDetailCacheEntry entry = ticketDetailLogicalCache.getIfPresent(id);
+        localEvent.finish(id, TicketCacheLookupEvent.TIER_LOGICAL_L1, entry != null);
+
+        // 2. Redis
+        if (entry == null) {
+            TicketCacheLookupEvent redisEvent = new TicketCacheLookupEvent();
+            redisEvent.begin();
+            entry = redisInfrasService.getObject(getLogicalItemKey(id), TicketDetailCacheEntry.class);
+            redisEvent.finish(id, TicketCacheLookupEvent.TIER_LOGICAL_REDIS, entry != null);
+            if (entry != null) {
+                ticketDetailLogicalCache.put(id, entry);
             }
+        }
+
+        // 3. cold
+        if (entry == null) {
+            log.info("Logical expiry cold miss, load: id={}", id);
+            return ticketDetailSingleFlight.execute(id, () -> rebuildLogicalEntry(id));
+        }
 
-            // still nothing — fetch from DB
-            ticketDetail = ticketDetailDomainService.getTicketDetailById(id);
+        if (entry.isLogicallyExpired()) {
+            triggerRebuild(id);
+        }
+        return entry.getTicketDetail();
+    }
 
-            if (ticketDetail == null) {
-                log.info("Ticket not found in DB for id={}, caching null to prevent penetration", id);
-                // cache null to prevent cache penetration
-                redisInfrasService.setObject(getEventItemKey(id), null);
-                ticketDetailLocalCache.put(id, null);
-                return null;
+    private void triggerRebuild(Long id) {
+        if (!rebuildingIds.add(id)) {
+            return;
+        }
+        // lease shorter than any sane rebuild; released explicitly when done, only by its owner
+        String token = UUID.randomUUID().toString();
+        if (!redisInfrasService.setObjectIfAbsent(getRebuildLockKey(id), token, 10, TimeUnit.SECONDS)) {
+            rebuildingIds.remove(id);
+            return;
+        }
+
+        log.info("Logical expiry, rebuild claimed: id={}", id);
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuildLogicalEntry(id);
+            } catch (Exception e) {
+                log.error("Logical expiry rebuild failed: id={}, {}", id, e.getMessage());
+            } finally {
+                // the lease may have run out and another node claimed the key since: delete it only if still ours
+                redisInfrasService.executeScript(RELEASE_REBUILD_LOCK_SCRIPT, List.of(getRebuildLockKey(id)), token);
+                rebuildingIds.remove(id);
             }
+        });
+    }
 
-            // populate both caches
-            redisInfrasService.setObject(getEventItemKey(id), ticketDetail);
-            ticketDetailLocalCache.put(id, ticketDetail);
-            return ticketDetail;
+    private TicketDetail rebuildLogicalEntry(Long id) {
+        TicketDetail ticketDetail = loadTicketDetail(id, TicketDbLoadEvent.SOURCE_LOGICAL_REBUILD);
+        TicketDetailCacheEntry entry = new TicketDetailCacheEntry(ticketDetail,
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(logicalTtlSeconds));
+        // physical TTL well past the logical one: the entry only disappears if nobody reads it for a day
+        redisInfrasService.setObject(getLogicalItemKey(id), entry, 1, TimeUnit.DAYS);
+        ticketDetailLogicalCache.put(id, entry);
+        return ticketDetail;
+    }
 
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        } finally {
-            // LƯu ý: cho dù thành công hay ko cũng phải unlock, bằng mọi giá
-            // LƯu ý: cho dù thành công hay ko cũng phải unlock, bằng mọi giá
-            // LƯu ý: cho dù thành công hay ko cũng phải unlock, bằng mọi giá
-            locker.unlock();
+    private String getLogicalItemKey(Long id) {
+        return "PRO_TICKET:LOGICAL:ITEM" + id;
+    }
+
+    public String getTieredItemKey(Long id) {
+        return TIERED_ITEM_KEY_PREFIX + id;
+    }
+
+    private String getRebuildLockKey(Long id) {
+        return "PRO_LOCK_KEY_REBUILD" + id;
+    }
+
+
+    /**
+     * Same flow as LEVEL 3, declared with @TieredCacheable instead of hand-written code.
+     * Must be called from another bean (Spring proxy), e.g. TicketDetailAppServiceImpl.
+     */
+    @TieredCacheable(
+            cacheName = TIERED_CACHE_NAME,
+            key = "'" + TIERED_ITEM_KEY_PREFIX + "' + #p0",
+            localMaxSize = 10_000,
+            localTtlSeconds = 600,
+            redisTtlSeconds = TIERED_REDIS_TTL_SECONDS,
+            nullTtlSeconds = TIERED_NULL_TTL_SECONDS,
+            lockPolicy = TieredLockPolicy.DISTRIBUTED,
+            lockKeyPrefix = TIERED_LOCK_KEY_PREFIX
+    )
+    public TicketDetail getTicketDefaultCacheTiered(Long id) {
+        log.debug("tiered cache miss, load from DB: id={}", id);
+        return loadTicketDetail(id, TicketDbLoadEvent.SOURCE_TIERED);
+    }
+
+    @TieredCacheEvict(cacheName = TIERED_CACHE_NAME, key = "'" + TIERED_ITEM_KEY_PREFIX + "' + #p0")
+    public void evictTicketDefaultCacheTiered(Long id) {
+        log.info("evict tiered cache: id={}", id);
+        ticketDetailVersionCache.invalidate(id);
+    }
+
+    /**
+     * Drop every cached copy of the item in Redis and on every node (all strategies),
+     * e.g. when its status changes. The next read loads the new state from DB.
+     */
+    public void invalidateTicketDetail(Long id) {
+        log.info("invalidate ticket detail caches: id={}", id);
+        redisInfrasService.delete(getEventItemKey(id));
+        redisInfrasService.delete(getLogicalItemKey(id));
+        redisInfrasService.delete(getTieredItemKey(id));
+        // local copies (this node included) are dropped by the topic handler
+        cacheInvalidationTopic.publish(id);
+    }
+
+    // committed through JPA on any node; bulk updates (SaleWindowScheduler) call invalidateTicketDetail themselves
+    // INSERT too: the id may be cached as "not found" (tiered null entry in Redis and in the TIERED L1 of every node)
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entityType() != TicketDetail.class || !(event.id() instanceof Long id)) {
+            return;
+        }
+        invalidateTicketDetail(id);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribeInvalidation() {
+        cacheInvalidationTopic.subscribe(this::invalidateLocal);
+    }
+
+    private void invalidateLocal(long id) {
+        ticketDetailLocalCache.invalidate(id);
+        ticketDetailStaleCache.invalidate(id);
+        ticketDetailLogicalCache.invalidate(id);
+        if (ticketDetailOffHeapStore != null) {
+            ticketDetailOffHeapStore.remove(id);
+        }
+        ticketDetailVersionCache.invalidate(id);
+        tieredCacheAspect.evictLocal(TIERED_CACHE_NAME, getTieredItemKey(id));
+        eventPublisher.publishEvent(new TicketDetailInvalidatedEvent(id));
+    }
+
+
+    /**
+     * Version (ticket_item.version) of the copy last served by this node, or null if unknown.
+     * Does not touch the local / distributed cache.
+     */
+    public Long getTicketDetailVersion(Long id) {
+        return ticketDetailVersionCache.getIfPresent(id);
+    }
+
+    /**
+     * Remember the version of a detail that is about to be served.
+     */
+    public TicketDetail rememberVersion(TicketDetail ticketDetail) {
+        if (ticketDetail != null && ticketDetail.getId() != null) {
+            ticketDetailVersionCache.put(ticketDetail.getId(), ticketDetail.getVersion());
         }
+        return ticketDetail;
+    }
+
+
+    // LEVEL 1-3 Redis read, recorded as a TicketCacheLookup JFR event
+    private TicketDetail getRedisTicketDetail(Long id) {
+        TicketCacheLookupEvent event = new TicketCacheLookupEvent();
+        event.begin();
+        TicketDetail ticketDetail = redisInfrasService.getObject(getEventItemKey(id), TicketDetail.class);
+        event.finish(id, TicketCacheLookupEvent.TIER_REDIS, ticketDetail != null);
+        return ticketDetail;
+    }
+
+    // every DB read of this service goes through here, recorded as a TicketDbLoad JFR event
+    private TicketDetail loadTicketDetail(Long id, String source) {
+        TicketDbLoadEvent event = new TicketDbLoadEvent();
+        event.begin();
+        TicketDetail ticketDetail = ticketDetailDomainService.getTicketDetailById(id);
+        event.finish(id, source, ticketDetail != null);
+        return ticketDetail;
     }
 
 
-    private String getEventItemKey(Long id) {
+    public String getEventItemKey(Long id) {
         return "PRO_TICKET:ITEM" + id;
     }
 }
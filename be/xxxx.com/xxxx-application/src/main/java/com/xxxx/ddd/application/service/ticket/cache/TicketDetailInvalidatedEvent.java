@@ -0,0 +1,9 @@
+package com.xxxx.ddd.application.service.ticket.cache;
+
+/**
+ * Published (Spring event) when this node drops its local copies of a ticket detail, whether the change was made
+ * here or reached it through the cache invalidation topic. Lets caches outside this module (e.g. the encoded
+ * responses of the controller) follow.
+ */
+public record TicketDetailInvalidatedEvent(long ticketItemId) {
+}
@@ -0,0 +1,123 @@
+package com.xxxx.ddd.application.service.ticket.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import com.xxxx.ddd.domain.service.TicketDetailDomainService;
+import com.xxxx.ddd.infrastructure.cache.snapshot.MappedSnapshotFile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warm restart of the ticket detail L1: on graceful shutdown the live LongKeyCache entries are written to a
+ * memory-mapped snapshot; on startup they are reloaded, keeping their remaining TTL, once their version (ticket_item.version) matches DB.
+ *
+ * Restore runs on ApplicationReadyEvent, before the readiness state flips to ACCEPTING_TRAFFIC.
+ * Entries held by the off-heap store (ticket.offheap.enabled) are not part of the snapshot.
+ */
+@Component
+@Slf4j
+public class TicketDetailLocalCacheSnapshot {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    // ids per version query (IN list)
+    private static final int VERSION_BATCH_SIZE = 1000;
+
+    @Autowired
+    private TicketDetailCacheService ticketDetailCacheService;
+
+    @Autowired
+    private TicketDetailDomainService ticketDetailDomainService;
+
+    @Value("${ticket.cache.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ticket.cache.snapshot.path:data/ticket-detail-l1.snapshot}")
+    private String path;
+
+    private record LiveEntry(TicketDetail ticketDetail, long writtenAt) {
+    }
+
+    @PreDestroy
+    public void save() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+
+        // collect references only under the segment locks, serialize afterwards
+        List<LiveEntry> live = new ArrayList<>();
+        ticketDetailCacheService.forEachLocalCacheEntry((id, ticketDetail, ageNanos) ->
+                live.add(new LiveEntry(ticketDetail, now - TimeUnit.NANOSECONDS.toMillis(ageNanos))));
+
+        try {
+            List<MappedSnapshotFile.Entry> entries = new ArrayList<>(live.size());
+            for (LiveEntry entry : live) {
+                TicketDetail ticketDetail = entry.ticketDetail();
+                entries.add(new MappedSnapshotFile.Entry(ticketDetail.getId(), entry.writtenAt(),
+                        ticketDetail.getVersion(), OBJECT_MAPPER.writeValueAsBytes(ticketDetail)));
+            }
+            long bytes = MappedSnapshotFile.write(Path.of(path), entries);
+            log.info("L1 snapshot saved: {} entries, {} bytes, {} ms",
+                    entries.size(), bytes, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            log.warn("L1 snapshot not saved: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        try {
+            List<MappedSnapshotFile.Entry> entries = new ArrayList<>();
+            int expired = 0;
+            for (MappedSnapshotFile.Entry entry : MappedSnapshotFile.read(Path.of(path))) {
+                if (now - entry.writtenAt() >= TicketDetailCacheService.LOCAL_CACHE_TTL_MILLIS) {
+                    expired++;
+                } else {
+                    entries.add(entry);
+                }
+            }
+
+            int restored = 0;
+            int stale = 0;
+            for (int from = 0; from < entries.size(); from += VERSION_BATCH_SIZE) {
+                List<MappedSnapshotFile.Entry> batch = entries.subList(from, Math.min(entries.size(), from + VERSION_BATCH_SIZE));
+                Map<Long, Long> versions = ticketDetailDomainService.getVersions(batch.stream().map(MappedSnapshotFile.Entry::key).toList());
+                for (MappedSnapshotFile.Entry entry : batch) {
+                    // changed (or deleted) while this node was down → leave it to the normal miss path
+                    if (!Long.valueOf(entry.version()).equals(versions.get(entry.key()))) {
+                        stale++;
+                        continue;
+                    }
+                    TicketDetail ticketDetail = OBJECT_MAPPER.readValue(entry.payload(), TicketDetail.class);
+                    ticketDetailCacheService.restoreLocalCache(ticketDetail, now - entry.writtenAt());
+                    restored++;
+                }
+            }
+            log.info("L1 snapshot restored: {} entries, {} stale, {} expired, {} ms",
+                    restored, stale, expired, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            // a cold L1 is always safe
+            log.warn("L1 snapshot not restored: {}", e.getMessage());
+        }
+    }
+}
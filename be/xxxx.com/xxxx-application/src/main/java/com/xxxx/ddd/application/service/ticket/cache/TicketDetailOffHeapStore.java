@@ -0,0 +1,107 @@
+package com.xxxx.ddd.application.service.ticket.cache;
+
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import com.xxxx.ddd.infrastructure.cache.offheap.OffHeapRecordStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Optional off-heap replacement for the Guava L1 / stale caches of TicketDetailCacheService (ticket.offheap.enabled).
+ * Each item is one fixed-size record (TicketDetailRecord layout) in direct memory: no entity, boxed Long or Date
+ * stays on the heap per cached item. Items whose name / description exceed the fixed fields are rejected
+ * and stay in the Guava cache.
+ *
+ * Sizing: max-records * (106 + name-max-bytes + description-max-bytes) bytes of direct memory,
+ * allocated 64 MB at a time — keep -XX:MaxDirectMemorySize above it.
+ *
+ * Records older than the stale TTL (60 min) are dead for both readers; when the store is full they are
+ * reclaimed in one sweep (at most once per second) and the write is retried.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "ticket.offheap.enabled", havingValue = "true")
+public class TicketDetailOffHeapStore {
+
+    private final int nameMaxBytes;
+    private final int descriptionMaxBytes;
+    private final OffHeapRecordStore store;
+    private final ThreadLocal<TicketDetailRecord> flyweights;
+    private final AtomicLong lastSweepAt = new AtomicLong();
+
+    public TicketDetailOffHeapStore(@Value("${ticket.offheap.max-records:100000}") int maxRecords,
+                                    @Value("${ticket.offheap.name-max-bytes:200}") int nameMaxBytes,
+                                    @Value("${ticket.offheap.description-max-bytes:1024}") int descriptionMaxBytes) {
+        this.nameMaxBytes = nameMaxBytes;
+        this.descriptionMaxBytes = descriptionMaxBytes;
+        this.store = new OffHeapRecordStore(TicketDetailRecord.payloadSize(nameMaxBytes, descriptionMaxBytes), maxRecords);
+        this.flyweights = ThreadLocal.withInitial(() -> new TicketDetailRecord(nameMaxBytes));
+        log.info("Off-heap ticket detail store: maxRecords={}, up to {} MB direct memory",
+                maxRecords, store.capacityBytes() >> 20);
+    }
+
+    /**
+     * Heap copy of the record if it was cached less than maxAgeMillis ago, else null.
+     */
+    public TicketDetail get(Long id, long maxAgeMillis) {
+        long minCachedAt = System.currentTimeMillis() - maxAgeMillis;
+        return read(id, record -> record.getCachedAt() >= minCachedAt ? record.toTicketDetail(id) : null);
+    }
+
+    /**
+     * Read fields through the flyweight without materialising a TicketDetail, e.g. read(id, TicketDetailRecord::getStatus).
+     * The function must not keep the record.
+     */
+    public <T> T read(Long id, Function<TicketDetailRecord, T> function) {
+        TicketDetailRecord flyweight = flyweights.get();
+        return store.read(id, (buffer, offset) -> function.apply(flyweight.wrap(buffer, offset)));
+    }
+
+    /**
+     * @return false if the item does not fit (long name / description) or the store is full
+     */
+    public boolean put(TicketDetail ticketDetail) {
+        if (ticketDetail == null || ticketDetail.getId() == null) {
+            return false;
+        }
+        byte[] name = ticketDetail.getName() == null ? null : ticketDetail.getName().getBytes(StandardCharsets.UTF_8);
+        byte[] description = ticketDetail.getDescription() == null ? null : ticketDetail.getDescription().getBytes(StandardCharsets.UTF_8);
+        if ((name != null && name.length > nameMaxBytes) || (description != null && description.length > descriptionMaxBytes)) {
+            return false;
+        }
+
+        long cachedAt = System.currentTimeMillis();
+        OffHeapRecordStore.RecordWriter writer = (buffer, offset) ->
+                TicketDetailRecord.write(buffer, offset, ticketDetail, name, description, nameMaxBytes, cachedAt);
+        if (store.write(ticketDetail.getId(), writer)) {
+            return true;
+        }
+        return reclaimExpired(cachedAt) > 0 && store.write(ticketDetail.getId(), writer);
+    }
+
+    private int reclaimExpired(long now) {
+        long last = lastSweepAt.get();
+        if (now - last < TimeUnit.SECONDS.toMillis(1) || !lastSweepAt.compareAndSet(last, now)) {
+            return 0;
+        }
+        long minCachedAt = now - TicketDetailCacheService.STALE_CACHE_TTL_MILLIS;
+        TicketDetailRecord flyweight = new TicketDetailRecord(nameMaxBytes);
+        int removed = store.removeIf((buffer, offset) -> flyweight.wrap(buffer, offset).getCachedAt() < minCachedAt);
+        log.info("Off-heap store full, reclaimed {} expired records", removed);
+        return removed;
+    }
+
+    public void remove(Long id) {
+        store.remove(id);
+    }
+
+    public int size() {
+        return store.size();
+    }
+}
@@ -0,0 +1,156 @@
+package com.xxxx.ddd.application.service.ticket.cache;
+
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * Flyweight over one off-heap TicketDetail record (TicketDetailOffHeapStore).
+ * Getters read straight from the buffer; one instance per thread is re-pointed at each record,
+ * so reading a single field allocates nothing. Only valid inside OffHeapRecordStore.read().
+ *
+ * Payload layout (bytes):
+ *  0 priceOriginal | 8 priceFlash | 16 saleStartTime | 24 saleEndTime | 32 activityId
+ * 40 updatedAt | 48 createdAt | 56 cachedAt | 64 version    (long, NULL_LONG = null)
+ * 72 stockInitial | 76 stockAvailable | 80 status          (int)
+ * 84 isStockPrepared (byte) | 86 nameLength | 88 descriptionLength (short, -1 = null)
+ * 90 name [nameMaxBytes] | description [descriptionMaxBytes]  (UTF-8)
+ */
+public class TicketDetailRecord {
+
+    static final long NULL_LONG = Long.MIN_VALUE;
+
+    static final int PRICE_ORIGINAL = 0;
+    static final int PRICE_FLASH = 8;
+    static final int SALE_START_TIME = 16;
+    static final int SALE_END_TIME = 24;
+    static final int ACTIVITY_ID = 32;
+    static final int UPDATED_AT = 40;
+    static final int CREATED_AT = 48;
+    static final int CACHED_AT = 56;
+    static final int VERSION = 64;
+    static final int STOCK_INITIAL = 72;
+    static final int STOCK_AVAILABLE = 76;
+    static final int STATUS = 80;
+    static final int STOCK_PREPARED = 84;
+    static final int NAME_LENGTH = 86;
+    static final int DESCRIPTION_LENGTH = 88;
+    static final int NAME = 90;
+
+    private final int nameMaxBytes;
+    private ByteBuffer buffer;
+    private int base;
+
+    TicketDetailRecord(int nameMaxBytes) {
+        this.nameMaxBytes = nameMaxBytes;
+    }
+
+    static int payloadSize(int nameMaxBytes, int descriptionMaxBytes) {
+        return NAME + nameMaxBytes + descriptionMaxBytes;
+    }
+
+    TicketDetailRecord wrap(ByteBuffer buffer, int base) {
+        this.buffer = buffer;
+        this.base = base;
+        return this;
+    }
+
+    public Long getPriceOriginal() { return getNullableLong(PRICE_ORIGINAL); }
+    public Long getPriceFlash() { return getNullableLong(PRICE_FLASH); }
+    public Long getActivityId() { return getNullableLong(ACTIVITY_ID); }
+    public int getStockInitial() { return buffer.getInt(base + STOCK_INITIAL); }
+    public int getStockAvailable() { return buffer.getInt(base + STOCK_AVAILABLE); }
+    public int getStatus() { return buffer.getInt(base + STATUS); }
+    public boolean isStockPrepared() { return buffer.get(base + STOCK_PREPARED) != 0; }
+    public long getCachedAt() { return buffer.getLong(base + CACHED_AT); }
+    public long getSaleStartTimeMillis() { return buffer.getLong(base + SALE_START_TIME); }
+    public long getSaleEndTimeMillis() { return buffer.getLong(base + SALE_END_TIME); }
+    public long getUpdatedAtMillis() { return buffer.getLong(base + UPDATED_AT); }
+    public long getVersion() { return buffer.getLong(base + VERSION); }
+
+    public String getName() {
+        return getString(NAME, buffer.getShort(base + NAME_LENGTH));
+    }
+
+    public String getDescription() {
+        return getString(NAME + nameMaxBytes, buffer.getShort(base + DESCRIPTION_LENGTH));
+    }
+
+    // materialise a heap copy, e.g. for JSON serialization
+    public TicketDetail toTicketDetail(Long id) {
+        return new TicketDetail()
+                .setId(id)
+                .setName(getName())
+                .setDescription(getDescription())
+                .setStockInitial(getStockInitial())
+                .setStockAvailable(getStockAvailable())
+                .setStockPrepared(isStockPrepared())
+                .setPriceOriginal(getPriceOriginal())
+                .setPriceFlash(getPriceFlash())
+                .setSaleStartTime(getDate(SALE_START_TIME))
+                .setSaleEndTime(getDate(SALE_END_TIME))
+                .setStatus(getStatus())
+                .setActivityId(getActivityId())
+                .setVersion(getVersion())
+                .setUpdatedAt(getDate(UPDATED_AT))
+                .setCreatedAt(getDate(CREATED_AT));
+    }
+
+    // name / description must already fit their fixed fields (checked by TicketDetailOffHeapStore)
+    static void write(ByteBuffer buffer, int base, TicketDetail ticketDetail, byte[] name, byte[] description,
+                      int nameMaxBytes, long cachedAt) {
+        buffer.putLong(base + PRICE_ORIGINAL, toLong(ticketDetail.getPriceOriginal()));
+        buffer.putLong(base + PRICE_FLASH, toLong(ticketDetail.getPriceFlash()));
+        buffer.putLong(base + SALE_START_TIME, toLong(ticketDetail.getSaleStartTime()));
+        buffer.putLong(base + SALE_END_TIME, toLong(ticketDetail.getSaleEndTime()));
+        buffer.putLong(base + ACTIVITY_ID, toLong(ticketDetail.getActivityId()));
+        buffer.putLong(base + UPDATED_AT, toLong(ticketDetail.getUpdatedAt()));
+        buffer.putLong(base + CREATED_AT, toLong(ticketDetail.getCreatedAt()));
+        buffer.putLong(base + CACHED_AT, cachedAt);
+        buffer.putLong(base + VERSION, ticketDetail.getVersion());
+        buffer.putInt(base + STOCK_INITIAL, ticketDetail.getStockInitial());
+        buffer.putInt(base + STOCK_AVAILABLE, ticketDetail.getStockAvailable());
+        buffer.putInt(base + STATUS, ticketDetail.getStatus());
+        buffer.put(base + STOCK_PREPARED, (byte) (ticketDetail.isStockPrepared() ? 1 : 0));
+        putString(buffer, base + NAME_LENGTH, base + NAME, name);
+        putString(buffer, base + DESCRIPTION_LENGTH, base + NAME + nameMaxBytes, description);
+    }
+
+    private static void putString(ByteBuffer buffer, int lengthOffset, int offset, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort(lengthOffset, (short) -1);
+            return;
+        }
+        buffer.putShort(lengthOffset, (short) bytes.length);
+        buffer.put(offset, bytes);
+    }
+
+    private String getString(int offset, short length) {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(base + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Long getNullableLong(int offset) {
+        long value = buffer.getLong(base + offset);
+        return value == NULL_LONG ? null : value;
+    }
+
+    private Date getDate(int offset) {
+        long value = buffer.getLong(base + offset);
+        return value == NULL_LONG ? null : new Date(value);
+    }
+
+    private static long toLong(Long value) {
+        return value == null ? NULL_LONG : value;
+    }
+
+    private static long toLong(Date value) {
+        return value == null ? NULL_LONG : value.getTime();
+    }
+}
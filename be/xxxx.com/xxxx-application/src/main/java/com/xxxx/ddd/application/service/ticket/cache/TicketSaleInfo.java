@@ -0,0 +1,34 @@
+package com.xxxx.ddd.application.service.ticket.cache;
+
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import com.xxxx.ddd.domain.model.enums.TicketItemStatus;
+
+/**
+ * The fields of a TicketDetail the order path needs. Read straight from an off-heap record through the
+ * flyweight (TicketDetailCacheService.getTicketSaleInfo): no name / description strings, no Date, no entity.
+ *
+ * saleStartMillis / saleEndMillis are TicketDetailRecord.NULL_LONG when the item has no window.
+ */
+public record TicketSaleInfo(Long activityId, Long priceFlash, long saleStartMillis, long saleEndMillis, int status) {
+
+    static TicketSaleInfo of(TicketDetailRecord record) {
+        return new TicketSaleInfo(record.getActivityId(), record.getPriceFlash(),
+                record.getSaleStartTimeMillis(), record.getSaleEndTimeMillis(), record.getStatus());
+    }
+
+    static TicketSaleInfo of(TicketDetail ticketDetail) {
+        return new TicketSaleInfo(ticketDetail.getActivityId(), ticketDetail.getPriceFlash(),
+                ticketDetail.getSaleStartTime() == null ? TicketDetailRecord.NULL_LONG : ticketDetail.getSaleStartTime().getTime(),
+                ticketDetail.getSaleEndTime() == null ? TicketDetailRecord.NULL_LONG : ticketDetail.getSaleEndTime().getTime(),
+                ticketDetail.getStatus());
+    }
+
+    // the window itself, not the status column: SaleWindowScheduler flips status a moment after the boundary,
+    // and a cached detail may carry the status from before it
+    public boolean isOnSale(long now) {
+        if (saleStartMillis == TicketDetailRecord.NULL_LONG || saleEndMillis == TicketDetailRecord.NULL_LONG) {
+            return status == TicketItemStatus.ACTIVE.code();
+        }
+        return TicketItemStatus.of(saleStartMillis, saleEndMillis, now) == TicketItemStatus.ACTIVE;
+    }
+}
@@ -0,0 +1,181 @@
+package com.xxxx.ddd.application.service.ticket.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import com.xxxx.ddd.application.service.ticket.order.TicketOrderBatchWriter;
+import com.xxxx.ddd.application.service.ticket.order.TicketOrderFailedEvent;
+import com.xxxx.ddd.domain.model.entity.TicketOrder;
+import com.xxxx.ddd.domain.service.TicketDetailDomainService;
+import com.xxxx.ddd.domain.service.TicketOrderDomainService;
+import com.xxxx.ddd.infrastructure.cache.redis.RedisInfrasService;
+import com.xxxx.ddd.infrastructure.cache.soldout.SoldOutService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticket stock in Redis: PRO_TICKET:STOCK:{itemId} = remaining quantity.
+ * Per-user purchase count in Redis: hash PRO_TICKET:LIMIT:{activityId}, field = userId.
+ * Limit check + stock decrement + purchase count are a single Lua call (atomic across nodes).
+ *
+ * The stock key has no TTL. When it is missing (first use, Redis flushed) it is seeded from the order ledger:
+ * stock_initial - sum(quantity) of non-cancelled orders - orders still queued in this node's batch writer.
+ * Orders queued on other nodes at that moment (up to one writer poll, ~100 ms) are not seen — flush or drain
+ * the writers before deleting stock keys by hand.
+ */
+@Service
+@Slf4j
+public class TicketStockCacheService {
+
+    public static final long STOCK_MISSING = -2;
+    public static final long STOCK_SOLD_OUT = -1;
+    public static final long STOCK_NOT_ENOUGH = -3;
+    public static final long USER_LIMIT_REACHED = -4;
+    public static final long USER_LIMIT_EXCEEDED = -5;
+
+    // KEYS[1] = stock key, KEYS[2] = limit hash; ARGV[1] = quantity, ARGV[2] = userId, ARGV[3] = max per user, ARGV[4] = limit ttl (s)
+    // return: remaining stock after decrement, -1 sold out, -2 key missing, -3 not enough,
+    //         -4 user already at the limit, -5 quantity would take the user over the limit
+    // Redis does not roll back a script that fails halfway: the stock decrement and the user's count are each
+    // written with pcall, and a failure of either undoes the other before raising the error (executeScript → null)
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local stock = tonumber(redis.call('GET', KEYS[1])) " +
+            "if stock == nil then return -2 end " +
+            "if stock <= 0 then return -1 end " +
+            "local quantity = tonumber(ARGV[1]) " +
+            "local limit = tonumber(ARGV[3]) " +
+            "local bought = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0') " +
+            "if bought >= limit then return -4 end " +
+            "if bought + quantity > limit then return -5 end " +
+            "if stock < quantity then return -3 end " +
+            "local remaining = redis.pcall('DECRBY', KEYS[1], quantity) " +
+            "if type(remaining) == 'table' and remaining.err then return remaining end " +
+            "local counted = redis.pcall('HINCRBY', KEYS[2], ARGV[2], quantity) " +
+            "if type(counted) == 'table' and counted.err then " +
+            "  redis.call('INCRBY', KEYS[1], quantity) " +
+            "  return counted " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[2], tonumber(ARGV[4])) " +
+            "return remaining",
+            Long.class);
+
+    // KEYS[1] = stock key, KEYS[2] = limit hash; ARGV[1] = quantity, ARGV[2] = userId
+    // undoes DECREMENT_SCRIPT; a missing stock key is left missing (the next seed reads the ledger)
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HINCRBY', KEYS[2], ARGV[2], -tonumber(ARGV[1])) <= 0 then redis.call('HDEL', KEYS[2], ARGV[2]) end " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // activityId:userId of users already at the limit — skips the Redis round trip on retries
+    private final static Cache<String, Boolean> limitReachedCache = CacheBuilder.newBuilder()
+            .maximumSize(1_000_000)
+            .expireAfterWrite(10, TimeUnit.MINUTES)
+            .build();
+
+    @Value("${ticket.order.max-per-user:4}")
+    private int maxPerUser;
+
+    @Value("${ticket.order.limit-ttl-seconds:604800}")
+    private long limitTtlSeconds;
+
+    @Autowired
+    private RedisInfrasService redisInfrasService;
+
+    @Autowired
+    private TicketDetailDomainService ticketDetailDomainService;
+
+    @Autowired
+    private TicketOrderDomainService ticketOrderDomainService;
+
+    @Autowired
+    private TicketOrderBatchWriter ticketOrderBatchWriter;
+
+    @Autowired
+    private SoldOutService soldOutService;
+
+    /**
+     * @return remaining stock (>= 0) on success, or one of STOCK_SOLD_OUT / STOCK_NOT_ENOUGH / STOCK_MISSING
+     * (MISSING after init = item not found) / USER_LIMIT_REACHED / USER_LIMIT_EXCEEDED; null if Redis is unavailable
+     */
+    public Long decrementStock(Long ticketItemId, Long activityId, Long userId, int quantity) {
+        List<String> keys = List.of(getStockKey(ticketItemId), getLimitKey(activityId));
+        Long result = redisInfrasService.executeScript(DECREMENT_SCRIPT, keys, quantity, userId, maxPerUser, limitTtlSeconds);
+        if (result != null && result == STOCK_MISSING) {
+            if (!initStock(ticketItemId)) {
+                return STOCK_MISSING;
+            }
+            result = redisInfrasService.executeScript(DECREMENT_SCRIPT, keys, quantity, userId, maxPerUser, limitTtlSeconds);
+        }
+
+        if (result != null && result == USER_LIMIT_REACHED) {
+            limitReachedCache.put(activityId + ":" + userId, Boolean.TRUE);
+        }
+        return result;
+    }
+
+    /**
+     * Gives back what a successful decrementStock took (order not placed after all): stock, the user's count,
+     * and the sold-out mark. @return false if Redis is unavailable
+     */
+    public boolean restoreStock(Long ticketItemId, Long activityId, Long userId, int quantity) {
+        Long result = redisInfrasService.executeScript(RESTORE_SCRIPT,
+                List.of(getStockKey(ticketItemId), getLimitKey(activityId)), quantity, userId);
+        if (result == null) {
+            log.error("Stock restore failed: id={}, activityId={}, userId={}, quantity={}", ticketItemId, activityId, userId, quantity);
+            return false;
+        }
+        limitReachedCache.invalidate(activityId + ":" + userId);
+        soldOutService.clearSoldOut(ticketItemId);
+        return true;
+    }
+
+    // the order row was never written: the sale did not happen
+    @EventListener
+    public void onOrderFailed(TicketOrderFailedEvent event) {
+        TicketOrder ticketOrder = event.ticketOrder();
+        restoreStock(ticketOrder.getTicketItemId(), ticketOrder.getActivityId(), ticketOrder.getUserId(), ticketOrder.getQuantity());
+    }
+
+    public boolean isLimitReached(Long activityId, Long userId) {
+        return limitReachedCache.getIfPresent(activityId + ":" + userId) != null;
+    }
+
+    public int getMaxPerUser() {
+        return maxPerUser;
+    }
+
+    public long getLimitTtlSeconds() {
+        return limitTtlSeconds;
+    }
+
+    // SET NX, no TTL: concurrent initialisers on other nodes cannot overwrite a stock already being decremented
+    public boolean initStock(Long ticketItemId) {
+        TicketDetail ticketDetail = ticketDetailDomainService.getTicketDetailById(ticketItemId);
+        if (ticketDetail == null) {
+            return false;
+        }
+        long sold = ticketOrderDomainService.getSoldQuantity(ticketItemId) + ticketOrderBatchWriter.getPendingQuantity(ticketItemId);
+        long stock = Math.max(0, ticketDetail.getStockInitial() - sold);
+        boolean initialised = redisInfrasService.setObjectIfAbsent(getStockKey(ticketItemId), stock);
+        log.info("Init stock: id={}, initial={}, sold={}, stock={}, initialised={}",
+                ticketItemId, ticketDetail.getStockInitial(), sold, stock, initialised);
+        return true;
+    }
+
+    public String getStockKey(Long ticketItemId) {
+        return "PRO_TICKET:STOCK:" + ticketItemId;
+    }
+
+    public String getLimitKey(Long activityId) {
+        return "PRO_TICKET:LIMIT:" + activityId;
+    }
+}
@@ -0,0 +1,83 @@
+package com.xxxx.ddd.application.service.ticket.impl;
+
+import com.xxxx.ddd.application.service.ticket.ReactiveTicketDetailAppService;
+import com.xxxx.ddd.application.service.ticket.cache.TicketDetailCacheService;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import com.xxxx.ddd.domain.service.TicketDetailDomainService;
+import com.xxxx.ddd.infrastructure.cache.redis.ReactiveRedisInfrasService;
+import com.xxxx.ddd.infrastructure.cache.tiered.TieredCacheAspect;
+import com.xxxx.ddd.infrastructure.cache.tiered.TieredCacheEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Same tiers as Level 3 (shares the L1 cache of TicketDetailCacheService and its tiered Redis entry,
+ * TieredCacheEntry under TIERED_ITEM_KEY_PREFIX + id, cached null included), but:
+ * - Redis is read/written with reactive Lettuce commands, no thread waits on network I/O;
+ * - the distributed lock is replaced by an in-JVM single-flight: concurrent misses for the same id
+ *   on this node subscribe to one shared DB load (JPA is blocking, so it runs on boundedElastic).
+ */
+@Service
+@Slf4j
+public class ReactiveTicketDetailAppServiceImpl implements ReactiveTicketDetailAppService {
+
+    private static final Duration REDIS_TTL = Duration.ofSeconds(TicketDetailCacheService.TIERED_ITEM_SPEC.redisTtlSeconds());
+
+    // cached null: unknown ids answer from Redis for this long instead of hitting the DB every request
+    private static final Duration NULL_TTL = Duration.ofSeconds(TicketDetailCacheService.TIERED_ITEM_SPEC.nullTtlSeconds());
+
+    @Autowired
+    private ReactiveRedisInfrasService reactiveRedisInfrasService;
+
+    @Autowired
+    private TicketDetailCacheService ticketDetailCacheService;
+
+    @Autowired
+    private TicketDetailDomainService ticketDetailDomainService;
+
+    @Autowired
+    private TieredCacheAspect tieredCacheAspect;
+
+    // id -> in-flight DB load (empty Optional: not in DB)
+    private final Map<Long, Mono<Optional<TicketDetail>>> inFlightLoads = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<TicketDetail> getTicketDetailById(Long ticketId) {
+        // 1. local cache — plain memory read, never blocks
+        TicketDetail local = ticketDetailCacheService.peekLocalCache(ticketId);
+        if (local != null) {
+            return Mono.just(ticketDetailCacheService.rememberVersion(local));
+        }
+
+        // 2. Redis (reactive; an error reads as a miss; an empty entry is a cached null) → 3. DB (single-flight)
+        String key = ticketDetailCacheService.getTieredItemKey(ticketId);
+        return reactiveRedisInfrasService.getObject(key, TieredCacheEntry.class)
+                .map(entry -> Optional.ofNullable(tieredCacheAspect.decode(entry, TicketDetail.class)))
+                .switchIfEmpty(Mono.defer(() -> loadOnce(ticketId, key)))
+                .flatMap(Mono::justOrEmpty)
+                .doOnNext(ticketDetail -> {
+                    ticketDetailCacheService.putLocalCache(ticketId, ticketDetail);
+                    ticketDetailCacheService.rememberVersion(ticketDetail);
+                });
+    }
+
+    private Mono<Optional<TicketDetail>> loadOnce(Long ticketId, String key) {
+        return inFlightLoads.computeIfAbsent(ticketId, id -> Mono
+                .fromCallable(() -> Optional.ofNullable(ticketDetailDomainService.getTicketDetailById(id)))
+                .subscribeOn(Schedulers.boundedElastic())
+                // not in DB: cached as an empty entry (dropped by invalidateTicketDetail, insert included)
+                .flatMap(found -> reactiveRedisInfrasService.setObject(key, new TieredCacheEntry(found.orElse(null), found.isEmpty()),
+                                found.isPresent() ? REDIS_TTL : NULL_TTL)
+                        .thenReturn(found))
+                .doFinally(signal -> inFlightLoads.remove(id))
+                .cache());
+    }
+}
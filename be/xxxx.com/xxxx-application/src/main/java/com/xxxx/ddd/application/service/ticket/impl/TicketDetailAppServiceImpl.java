@@ -1,15 +1,25 @@
 package com.xxxx.ddd.application.service.ticket.impl;
 
+import com.xxxx.ddd.application.model.TicketItemCursor;
+import com.xxxx.ddd.application.model.TicketItemPage;
+import com.xxxx.ddd.application.model.enums.TicketCacheStrategy;
 import com.xxxx.ddd.application.service.ticket.TicketDetailAppService;
 import com.xxxx.ddd.application.service.ticket.cache.TicketDetailCacheService;
 import com.xxxx.ddd.domain.model.entity.TicketDetail;
 import com.xxxx.ddd.domain.service.TicketDetailDomainService;
+import com.xxxx.ddd.infrastructure.cache.soldout.SoldOutService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
+import java.util.List;
+
 @Service
 @Slf4j
+@Observed(name = "ticket.layer", lowCardinalityKeyValues = {"layer", "application"})
 public class TicketDetailAppServiceImpl implements TicketDetailAppService {
     @Autowired
     private TicketDetailDomainService ticketDetailDomainService;
@@ -17,12 +27,52 @@ public class TicketDetailAppServiceImpl implements TicketDetailAppService {
     @Autowired
     private TicketDetailCacheService ticketDetailCacheService;
 
+    @Autowired
+    private SoldOutService soldOutService;
+
+    // default strategy for getTicketDetailById(Long)
+    @Value("${ticket.cache.strategy:LOCAL}")
+    private TicketCacheStrategy defaultStrategy;
+
     @Override
     public TicketDetail getTicketDetailById(Long ticketId) {
-        log.info("Implement Application : {}", ticketId);
-//        return ticketDetailDomainService.getTicketDetailById(ticketId);
-//        return ticketDetailCacheService.getTicketDefaultCacheNormal(ticketId, System.currentTimeMillis());
-//        return ticketDetailCacheService.getTicketDefaultCacheVip(ticketId, System.currentTimeMillis());
-        return ticketDetailCacheService.getTicketDefaultCacheLocal(ticketId, System.currentTimeMillis());
+        return getTicketDetailById(ticketId, defaultStrategy);
+    }
+
+    @Override
+    public TicketDetail getTicketDetailById(Long ticketId, TicketCacheStrategy strategy) {
+        log.debug("Implement Application : {}, strategy={}", ticketId, strategy);
+        TicketDetail ticketDetail = switch (strategy) {
+            case DB -> ticketDetailDomainService.getTicketDetailById(ticketId);
+            case NORMAL -> ticketDetailCacheService.getTicketDefaultCacheNormal(ticketId, System.currentTimeMillis());
+            case VIP -> ticketDetailCacheService.getTicketDefaultCacheVip(ticketId, System.currentTimeMillis());
+            case LOCAL -> ticketDetailCacheService.getTicketDefaultCacheLocal(ticketId, System.currentTimeMillis());
+            case TIERED -> ticketDetailCacheService.getTicketDefaultCacheTiered(ticketId);
+            case LOGICAL_EXPIRY -> ticketDetailCacheService.getTicketDefaultCacheLogicalExpiry(ticketId);
+        };
+        return ticketDetailCacheService.rememberVersion(ticketDetail);
+    }
+
+    @Override
+    public Long getTicketDetailVersion(Long ticketId) {
+        return ticketDetailCacheService.getTicketDetailVersion(ticketId);
+    }
+
+    @Override
+    public boolean isSoldOut(Long ticketId) {
+        return soldOutService.isSoldOut(ticketId);
+    }
+
+    @Override
+    public TicketItemPage listTicketDetails(TicketItemCursor cursor, int size) {
+        // one extra row tells whether there is a next page, without a COUNT
+        List<TicketDetail> rows = ticketDetailDomainService.getTicketDetailPage(cursor.status(),
+                new Date(cursor.fromMillis()), new Date(cursor.toMillis()),
+                new Date(cursor.afterStartMillis()), cursor.afterId(), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<TicketDetail> items = hasNext ? rows.subList(0, size) : rows;
+        return new TicketItemPage()
+                .setItems(items)
+                .setNextCursor(hasNext ? cursor.after(items.get(items.size() - 1)).encode() : null);
     }
 }
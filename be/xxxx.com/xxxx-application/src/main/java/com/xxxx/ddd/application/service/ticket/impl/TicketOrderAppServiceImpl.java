@@ -0,0 +1,124 @@
+package com.xxxx.ddd.application.service.ticket.impl;
+
+import com.xxxx.ddd.application.model.TicketOrderPlacement;
+import com.xxxx.ddd.application.model.enums.TicketOrderResult;
+import com.xxxx.ddd.application.service.ticket.TicketOrderAppService;
+import com.xxxx.ddd.application.service.ticket.cache.TicketDetailCacheService;
+import com.xxxx.ddd.application.service.ticket.cache.TicketSaleInfo;
+import com.xxxx.ddd.application.service.ticket.cache.TicketStockCacheService;
+import com.xxxx.ddd.application.service.ticket.order.TicketOrderBatchWriter;
+import com.xxxx.ddd.application.service.ticket.stock.ShardedStockEngine;
+import com.xxxx.ddd.domain.model.entity.TicketOrder;
+import com.xxxx.ddd.infrastructure.cache.soldout.SoldOutService;
+import com.xxxx.ddd.infrastructure.id.IdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+
+@Service
+@Slf4j
+public class TicketOrderAppServiceImpl implements TicketOrderAppService {
+
+    @Autowired
+    private TicketStockCacheService ticketStockCacheService;
+
+    @Autowired
+    private TicketDetailCacheService ticketDetailCacheService;
+
+    @Autowired
+    private SoldOutService soldOutService;
+
+    // present only with ticket.stock.engine=SHARDED; replaces the Lua decrement
+    @Autowired(required = false)
+    private ShardedStockEngine shardedStockEngine;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private TicketOrderBatchWriter ticketOrderBatchWriter;
+
+    @Override
+    public TicketOrderPlacement placeOrder(Long ticketItemId, Long userId, int quantity) {
+        // 1. node-local sold-out bit — no Redis round trip once the item is gone
+        if (soldOutService.isSoldOut(ticketItemId)) {
+            return TicketOrderPlacement.of(TicketOrderResult.SOLD_OUT);
+        }
+        if (quantity > ticketStockCacheService.getMaxPerUser()) {
+            return TicketOrderPlacement.of(TicketOrderResult.LIMIT_EXCEEDED);
+        }
+
+        // 2. activityId / price / window from the ticket detail cache (L1 → Redis), not from DB on the hot path;
+        //    an off-heap L1 hit reads just these fields, no TicketDetail copy
+        TicketSaleInfo saleInfo = ticketDetailCacheService.getTicketSaleInfo(ticketItemId, System.currentTimeMillis());
+        if (saleInfo == null) {
+            return TicketOrderPlacement.of(TicketOrderResult.NOT_FOUND);
+        }
+        Long activityId = saleInfo.activityId();
+        if (saleInfo.priceFlash() == null) {
+            return TicketOrderPlacement.of(TicketOrderResult.NOT_FOUND); // not priced for the sale
+        }
+        if (!saleInfo.isOnSale(System.currentTimeMillis())) {
+            return TicketOrderPlacement.of(TicketOrderResult.NOT_ON_SALE);
+        }
+
+        // 3. user already at the limit on this activity (seen by this node)
+        if (ticketStockCacheService.isLimitReached(activityId, userId)) {
+            return TicketOrderPlacement.of(TicketOrderResult.LIMIT_EXCEEDED);
+        }
+
+        // everything that can fail is done before the reservation: nothing after step 4 throws
+        long orderId;
+        try {
+            orderId = idGenerator.nextId();
+        } catch (IllegalStateException e) {
+            log.warn("Order id unavailable: {}", e.getMessage());
+            return TicketOrderPlacement.of(TicketOrderResult.BUSY);
+        }
+        long amount = saleInfo.priceFlash() * quantity;
+
+        // 4. limit check + stock decrement: one atomic Redis call, or the owning in-memory shard
+        Long remaining = shardedStockEngine != null
+                ? shardedStockEngine.decrementStock(ticketItemId, activityId, userId, quantity)
+                : ticketStockCacheService.decrementStock(ticketItemId, activityId, userId, quantity);
+        if (remaining == null) {
+            return TicketOrderPlacement.of(TicketOrderResult.BUSY);
+        }
+        if (remaining == TicketStockCacheService.STOCK_MISSING) {
+            return TicketOrderPlacement.of(TicketOrderResult.NOT_FOUND);
+        }
+        if (remaining == TicketStockCacheService.USER_LIMIT_REACHED
+                || remaining == TicketStockCacheService.USER_LIMIT_EXCEEDED) {
+            return TicketOrderPlacement.of(TicketOrderResult.LIMIT_EXCEEDED);
+        }
+        if (remaining == TicketStockCacheService.STOCK_NOT_ENOUGH) {
+            return TicketOrderPlacement.of(TicketOrderResult.NOT_ENOUGH_STOCK);
+        }
+        if (remaining == TicketStockCacheService.STOCK_SOLD_OUT) {
+            // another node sold the last ticket and its broadcast has not arrived (or was lost)
+            soldOutService.markSoldOut(ticketItemId);
+            return TicketOrderPlacement.of(TicketOrderResult.SOLD_OUT);
+        }
+
+        if (remaining == 0) {
+            soldOutService.markSoldOut(ticketItemId);
+        }
+
+        // 5. row inserted later by the batch writer, with the id generated above (no DB round trip)
+        Date now = new Date();
+        ticketOrderBatchWriter.submit(new TicketOrder()
+                .setId(orderId)
+                .setUserId(userId)
+                .setTicketItemId(ticketItemId)
+                .setActivityId(activityId)
+                .setQuantity(quantity)
+                .setAmount(amount)
+                .setStatus(0)
+                .setUpdatedAt(now)
+                .setCreatedAt(now));
+        log.info("Order placed: orderId={}, ticketItemId={}, userId={}, quantity={}, remaining={}", orderId, ticketItemId, userId, quantity, remaining);
+        return new TicketOrderPlacement(TicketOrderResult.SUCCESS, orderId);
+    }
+}
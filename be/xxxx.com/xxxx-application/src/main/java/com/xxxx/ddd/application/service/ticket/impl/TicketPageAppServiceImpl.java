@@ -0,0 +1,124 @@
+package com.xxxx.ddd.application.service.ticket.impl;
+
+import com.xxxx.ddd.application.model.TicketPage;
+import com.xxxx.ddd.application.service.ticket.TicketPageAppService;
+import com.xxxx.ddd.application.service.ticket.cache.TicketCacheService;
+import com.xxxx.ddd.application.service.ticket.cache.TicketStockCacheService;
+import com.xxxx.ddd.domain.model.entity.Ticket;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import com.xxxx.ddd.domain.model.enums.TicketItemStatus;
+import com.xxxx.ddd.domain.service.TicketDetailDomainService;
+import com.xxxx.ddd.infrastructure.cache.redis.RedisInfrasService;
+import com.xxxx.ddd.infrastructure.cache.soldout.SoldOutService;
+import com.xxxx.ddd.infrastructure.concurrent.FanOutScope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+/**
+ * Branches run in parallel on virtual threads (FanOutScope):
+ * <pre>
+ * ticket ─────────────────────────────┐
+ * items (by activity_id) ──→ stock ───┴─→ page
+ * </pre>
+ * Each branch has its own deadline from the start of the request; a late or failed branch is cancelled and the
+ * page is returned without it (items → stock_available from DB when live stock is missing).
+ * The ticket comes from its tiered cache (TicketCacheService); the items are read from DB.
+ * The DB queries carry the same deadline as their branch (MAX_EXECUTION_TIME), so a cancelled branch does not
+ * keep a connection busy.
+ */
+@Service
+@Slf4j
+public class TicketPageAppServiceImpl implements TicketPageAppService {
+
+    @Autowired
+    private TicketCacheService ticketCacheService;
+
+    @Autowired
+    private TicketDetailDomainService ticketDetailDomainService;
+
+    @Autowired
+    private TicketStockCacheService ticketStockCacheService;
+
+    @Autowired
+    private RedisInfrasService redisInfrasService;
+
+    @Autowired
+    private SoldOutService soldOutService;
+
+    @Value("${ticket.page.ticket-timeout-ms:300}")
+    private long ticketTimeoutMs;
+
+    @Value("${ticket.page.items-timeout-ms:300}")
+    private long itemsTimeoutMs;
+
+    // from the start of the request, so it includes the items branch it depends on
+    @Value("${ticket.page.stock-timeout-ms:400}")
+    private long stockTimeoutMs;
+
+    @Override
+    public TicketPage getTicketPage(Long ticketId) {
+        try (FanOutScope scope = new FanOutScope()) {
+            Future<Ticket> ticketBranch = scope.fork(() -> ticketCacheService.getTicketById(ticketId, ticketTimeoutMs));
+            Future<List<TicketDetail>> itemsBranch = scope.fork(() -> ticketDetailDomainService.getTicketDetailsByActivityId(ticketId, itemsTimeoutMs));
+
+            List<TicketDetail> items = scope.join(itemsBranch, "items", itemsTimeoutMs, Collections.emptyList());
+            Future<Map<Long, Long>> stockBranch = items.isEmpty() ? null : scope.fork(() -> loadLiveStock(items));
+
+            Ticket ticket = scope.join(ticketBranch, "ticket", ticketTimeoutMs, null);
+            Map<Long, Long> stock = stockBranch == null
+                    ? Collections.emptyMap()
+                    : scope.join(stockBranch, "stock", stockTimeoutMs, Collections.emptyMap());
+
+            if (ticket == null && items.isEmpty() && scope.failed().isEmpty()) {
+                return null; // not found (not a timeout)
+            }
+
+            long now = System.currentTimeMillis();
+            List<TicketPage.Item> pageItems = new ArrayList<>(items.size());
+            for (TicketDetail detail : items) {
+                Long liveStock = stock.get(detail.getId());
+                long itemStock = liveStock != null ? liveStock : detail.getStockAvailable();
+                pageItems.add(new TicketPage.Item()
+                        .setDetail(detail)
+                        .setStock(itemStock)
+                        .setLiveStock(liveStock != null)
+                        .setSaleState(TicketItemStatus.of(detail.getSaleStartTime(), detail.getSaleEndTime(), now))
+                        .setSoldOut(itemStock <= 0 || soldOutService.isSoldOut(detail.getId())));
+            }
+
+            TicketPage page = new TicketPage()
+                    .setTicket(ticket)
+                    .setSaleState(ticket == null ? null : TicketItemStatus.of(ticket.getStartTime(), ticket.getEndTime(), now))
+                    .setItems(pageItems)
+                    .setMissing(List.copyOf(scope.failed()))
+                    .setElapsedMs(scope.elapsedMillis());
+            log.info("ticket page: id={}, items={}, missing={}, elapsed={} ms", ticketId, pageItems.size(), page.getMissing(), page.getElapsedMs());
+            return page;
+        }
+    }
+
+    // one MGET for all items; keys never initialised (no order yet) are absent → DB stock
+    private Map<Long, Long> loadLiveStock(List<TicketDetail> items) {
+        List<String> keys = items.stream().map(item -> ticketStockCacheService.getStockKey(item.getId())).toList();
+        List<String> values = redisInfrasService.multiGetString(keys);
+        if (values == null) {
+            throw new IllegalStateException("redis unavailable");
+        }
+        Map<Long, Long> stock = new HashMap<>(items.size() * 2);
+        for (int i = 0; i < items.size(); i++) {
+            if (values.get(i) != null) {
+                stock.put(items.get(i).getId(), Long.parseLong(values.get(i)));
+            }
+        }
+        return stock;
+    }
+}
@@ -0,0 +1,42 @@
+package com.xxxx.ddd.application.service.ticket.impl;
+
+import com.xxxx.ddd.application.model.TicketSearchResult;
+import com.xxxx.ddd.application.service.ticket.TicketSearchAppService;
+import com.xxxx.ddd.application.service.ticket.search.TicketSearchIndex;
+import com.xxxx.ddd.infrastructure.search.InvertedIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Slf4j
+public class TicketSearchAppServiceImpl implements TicketSearchAppService {
+
+    @Autowired
+    private TicketSearchIndex ticketSearchIndex;
+
+    @Override
+    public TicketSearchResult search(String query, int limit) {
+        long start = System.nanoTime();
+        List<TicketSearchResult.Hit> tickets = toHits(ticketSearchIndex.searchTickets(query, limit));
+        List<TicketSearchResult.Hit> items = toHits(ticketSearchIndex.searchItems(query, limit));
+        return new TicketSearchResult()
+                .setQuery(query)
+                .setTickets(tickets)
+                .setItems(items)
+                .setReady(ticketSearchIndex.isReady())
+                .setElapsedMicros((System.nanoTime() - start) / 1_000);
+    }
+
+    private List<TicketSearchResult.Hit> toHits(List<InvertedIndex.Hit<TicketSearchIndex.Doc>> hits) {
+        return hits.stream()
+                .map(hit -> new TicketSearchResult.Hit()
+                        .setId(hit.id())
+                        .setActivityId(hit.value().activityId())
+                        .setName(hit.value().name())
+                        .setScore(hit.score()))
+                .toList();
+    }
+}
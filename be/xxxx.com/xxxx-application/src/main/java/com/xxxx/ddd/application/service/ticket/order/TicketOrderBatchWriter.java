@@ -0,0 +1,140 @@
+package com.xxxx.ddd.application.service.ticket.order;
+
+import com.xxxx.ddd.domain.model.entity.TicketOrder;
+import com.xxxx.ddd.domain.service.TicketOrderDomainService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Orders leave the request thread with their id already assigned; one writer thread inserts them in batches
+ * (whatever is queued, up to batch-size per transaction). If the queue is full the caller inserts synchronously.
+ * Quantities submitted but not yet written are tracked per item: stock seeding counts them as sold.
+ *
+ * A failed batch is retried row by row; rows that still fail go to the ticket.order.dead-letter log and a
+ * TicketOrderFailedEvent, whose listener releases their stock.
+ */
+@Service
+@Slf4j
+public class TicketOrderBatchWriter {
+
+    private static final Logger deadLetter = LoggerFactory.getLogger("ticket.order.dead-letter");
+
+    @Autowired
+    private TicketOrderDomainService ticketOrderDomainService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${ticket.order.writer.queue-capacity:100000}")
+    private int queueCapacity;
+
+    @Value("${ticket.order.writer.batch-size:500}")
+    private int batchSize;
+
+    private BlockingQueue<TicketOrder> queue;
+    private final Map<Long, LongAdder> pendingQuantities = new ConcurrentHashMap<>();
+    private Thread writer;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        writer = new Thread(this::writeLoop, "ticket-order-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void submit(TicketOrder ticketOrder) {
+        pendingQuantities.computeIfAbsent(ticketOrder.getTicketItemId(), id -> new LongAdder()).add(ticketOrder.getQuantity());
+        if (!running || !queue.offer(ticketOrder)) {
+            log.warn("Order queue full, inserting synchronously: id={}", ticketOrder.getId());
+            write(List.of(ticketOrder));
+        }
+    }
+
+    private void writeLoop() {
+        List<TicketOrder> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                TicketOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<TicketOrder> batch) {
+        try {
+            ticketOrderDomainService.insertOrders(batch);
+        } catch (Exception e) {
+            log.warn("Order batch insert failed, retrying {} rows one by one: {}", batch.size(), e.getMessage());
+            if (batch.size() == 1) {
+                fail(batch.getFirst(), e);
+            } else {
+                for (TicketOrder ticketOrder : batch) {
+                    writeOne(ticketOrder);
+                }
+            }
+        } finally {
+            for (TicketOrder ticketOrder : batch) {
+                pendingQuantities.get(ticketOrder.getTicketItemId()).add(-ticketOrder.getQuantity());
+            }
+        }
+    }
+
+    private void writeOne(TicketOrder ticketOrder) {
+        try {
+            ticketOrderDomainService.insertOrders(List.of(ticketOrder));
+        } catch (Exception e) {
+            fail(ticketOrder, e);
+        }
+    }
+
+    private void fail(TicketOrder ticketOrder, Exception e) {
+        deadLetter.error("id={}, userId={}, ticketItemId={}, activityId={}, quantity={}, amount={}, createdAt={}: {}",
+                ticketOrder.getId(), ticketOrder.getUserId(), ticketOrder.getTicketItemId(), ticketOrder.getActivityId(),
+                ticketOrder.getQuantity(), ticketOrder.getAmount(), ticketOrder.getCreatedAt().getTime(), e.getMessage());
+        try {
+            eventPublisher.publishEvent(new TicketOrderFailedEvent(ticketOrder));
+        } catch (Exception listenerError) {
+            log.error("Stock release failed for order {}: {}", ticketOrder.getId(), listenerError.getMessage());
+        }
+    }
+
+    // quantity submitted on this node and not written yet
+    public long getPendingQuantity(Long ticketItemId) {
+        LongAdder pending = pendingQuantities.get(ticketItemId);
+        return pending == null ? 0 : pending.sum();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+}
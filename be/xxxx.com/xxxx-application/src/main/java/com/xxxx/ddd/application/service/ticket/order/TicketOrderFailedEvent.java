@@ -0,0 +1,10 @@
+package com.xxxx.ddd.application.service.ticket.order;
+
+import com.xxxx.ddd.domain.model.entity.TicketOrder;
+
+/**
+ * Published (Spring event, writer thread) for an order whose row could not be inserted, even on its own.
+ * Its stock and purchase count are still reserved: listeners give them back.
+ */
+public record TicketOrderFailedEvent(TicketOrder ticketOrder) {
+}
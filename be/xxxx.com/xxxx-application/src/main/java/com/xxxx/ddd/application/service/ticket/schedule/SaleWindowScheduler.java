@@ -0,0 +1,146 @@
+package com.xxxx.ddd.application.service.ticket.schedule;
+
+import com.xxxx.ddd.application.service.ticket.TicketDetailAppService;
+import com.xxxx.ddd.application.service.ticket.cache.TicketDetailCacheService;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import com.xxxx.ddd.domain.model.enums.TicketItemStatus;
+import com.xxxx.ddd.domain.service.TicketDetailDomainService;
+import com.xxxx.ddd.infrastructure.cache.redis.RedisInfrasService;
+import com.xxxx.ddd.infrastructure.scheduler.TimingWheelScheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flips ticket_item.status exactly at sale_start_time / sale_end_time:
+ * 1. every half horizon, load the windows starting or ending within the next horizon and put one
+ *    timing-wheel task per transition (keyed, so reloads do not duplicate)
+ * 2. when a task fires: re-read the item, compute the status its window implies now, update the row
+ *    if it differs, invalidate every cache tier and warm the new state
+ *
+ * Every node keeps the same schedule, but a transition runs on one node only: the first to SET NX
+ * PRO_LOCK_SALE_WINDOW:{id}:{time}. Local caches of the other nodes are dropped through the cache invalidation topic.
+ * With Redis unreachable every node runs it (the UPDATE is idempotent: where status <> :status).
+ *
+ * A transition that throws deletes its key again, so the next catch-up pass retries it.
+ *
+ * Each reload starts with a catch-up pass: items whose status is behind their window (transitions missed while
+ * no node was up, or scheduled past the horizon of a failed reload) are moved now, under the same lock.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "ticket.sale-window.enabled", havingValue = "true", matchIfMissing = true)
+public class SaleWindowScheduler {
+
+    @Autowired
+    private TimingWheelScheduler timingWheelScheduler;
+
+    @Autowired
+    private TicketDetailDomainService ticketDetailDomainService;
+
+    @Autowired
+    private TicketDetailCacheService ticketDetailCacheService;
+
+    @Autowired
+    private TicketDetailAppService ticketDetailAppService;
+
+    @Autowired
+    private RedisInfrasService redisInfrasService;
+
+    @Value("${ticket.sale-window.horizon-minutes:60}")
+    private long horizonMinutes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+    }
+
+    private void reload() {
+        long now = System.currentTimeMillis();
+        long horizonMillis = TimeUnit.MINUTES.toMillis(horizonMinutes);
+        try {
+            catchUp(now);
+            List<TicketDetail> windows = ticketDetailDomainService.getSaleWindowsBetween(new Date(now), new Date(now + horizonMillis));
+            int scheduled = 0;
+            for (TicketDetail ticketDetail : windows) {
+                scheduled += scheduleTransition(ticketDetail.getId(), ticketDetail.getSaleStartTime(), now, horizonMillis);
+                scheduled += scheduleTransition(ticketDetail.getId(), ticketDetail.getSaleEndTime(), now, horizonMillis);
+            }
+            log.info("Sale windows loaded: items={}, newTransitions={}, pending={}", windows.size(), scheduled, timingWheelScheduler.pendingCount());
+        } catch (Exception e) {
+            log.error("Sale window reload failed: {}", e.getMessage());
+        } finally {
+            // next reload at half horizon: every transition is scheduled at least horizon/2 in advance
+            timingWheelScheduler.schedule("sale-window:reload:" + (now + horizonMillis / 2), now + horizonMillis / 2, this::reload);
+        }
+    }
+
+    private int scheduleTransition(Long id, Date at, long now, long horizonMillis) {
+        if (at == null || at.getTime() < now || at.getTime() >= now + horizonMillis) {
+            return 0;
+        }
+        return timingWheelScheduler.schedule("sale-window:" + id + ":" + at.getTime(), at.getTime(),
+                () -> transitionOnce(id, at.getTime())) ? 1 : 0;
+    }
+
+    private void catchUp(long now) {
+        List<TicketDetail> missed = ticketDetailDomainService.getMissedSaleTransitions(new Date(now));
+        for (TicketDetail ticketDetail : missed) {
+            // the boundary crossed last: same lock key as its scheduled task
+            long boundary = ticketDetail.getSaleEndTime().getTime() <= now
+                    ? ticketDetail.getSaleEndTime().getTime()
+                    : ticketDetail.getSaleStartTime().getTime();
+            transitionOnce(ticketDetail.getId(), boundary);
+        }
+        if (!missed.isEmpty()) {
+            log.info("Sale window catch-up: {} items behind their window", missed.size());
+        }
+    }
+
+    private void transitionOnce(Long id, long boundaryMillis) {
+        String lockKey = getTransitionLockKey(id, boundaryMillis);
+        boolean locked = redisInfrasService.isAvailable();
+        if (locked && !redisInfrasService.setObjectIfAbsent(lockKey, 1, 1, TimeUnit.HOURS)) {
+            return; // another node has it
+        }
+        try {
+            transition(id);
+        } catch (Exception e) {
+            // release the key, or the next catch-up would skip this transition for the whole TTL
+            if (locked) {
+                redisInfrasService.delete(lockKey);
+            }
+            log.error("Sale window transition failed: id={}, boundary={}, {}", id, boundaryMillis, e.getMessage());
+        }
+    }
+
+    private String getTransitionLockKey(Long id, long boundaryMillis) {
+        return "PRO_LOCK_SALE_WINDOW:" + id + ":" + boundaryMillis;
+    }
+
+    private void transition(Long id) {
+        // re-read: the window may have been moved since it was scheduled
+        TicketDetail ticketDetail = ticketDetailDomainService.getTicketDetailById(id);
+        if (ticketDetail == null || ticketDetail.getSaleStartTime() == null || ticketDetail.getSaleEndTime() == null) {
+            return;
+        }
+
+        TicketItemStatus status = TicketItemStatus.of(ticketDetail.getSaleStartTime(), ticketDetail.getSaleEndTime(), System.currentTimeMillis());
+        if (ticketDetail.getStatus() != status.code()) {
+            ticketDetailDomainService.updateStatus(id, status.code());
+        }
+
+        // always invalidate: a status written outside this scheduler is still cached; reaches every node
+        ticketDetailCacheService.invalidateTicketDetail(id);
+        ticketDetailAppService.getTicketDetailById(id);
+        log.info("Sale window transition: id={}, status={}", id, status);
+    }
+}
@@ -0,0 +1,223 @@
+package com.xxxx.ddd.application.service.ticket.search;
+
+import com.xxxx.ddd.domain.model.entity.Ticket;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import com.xxxx.ddd.domain.service.TicketDetailDomainService;
+import com.xxxx.ddd.domain.service.TicketDomainService;
+import com.xxxx.ddd.infrastructure.persistence.event.EntityChangedEvent;
+import com.xxxx.ddd.infrastructure.search.InvertedIndex;
+import com.xxxx.ddd.infrastructure.search.SearchIndexTopic;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-process full-text index over ticket (event) and ticket_item name/description, one InvertedIndex each.
+ *
+ * Kept current three ways:
+ * 1. startup: full load, paged by (updated_at, id), on a background thread (search answers ready = false until done)
+ * 2. change events: a committed JPA insert/update/delete of Ticket/TicketDetail is broadcast on the search topic;
+ *    every node (this one included) re-reads that row by id and re-indexes or removes it
+ * 3. refresh: every refresh-ms, rows with updated_at past the watermark (minus overlap-ms) are re-indexed.
+ *    Catches writes that bypass Hibernate (SQL scripts, bulk updates) and messages lost while Redis was down.
+ *    Rows deleted outside the app are not seen by the refresh; they drop out at the next restart.
+ */
+@Service
+@Slf4j
+public class TicketSearchIndex {
+
+    static final String TYPE_TICKET = "ticket";
+    static final String TYPE_ITEM = "item";
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // what a hit carries back: enough to render a result line without another lookup
+    public record Doc(Long activityId, String name) {
+    }
+
+    private final InvertedIndex<Doc> tickets = new InvertedIndex<>();
+    private final InvertedIndex<Doc> items = new InvertedIndex<>();
+
+    @Autowired
+    private TicketDomainService ticketDomainService;
+
+    @Autowired
+    private TicketDetailDomainService ticketDetailDomainService;
+
+    @Autowired
+    private SearchIndexTopic searchIndexTopic;
+
+    @Value("${ticket.search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ticket.search.refresh-ms:30000}")
+    private long refreshMillis;
+
+    @Value("${ticket.search.refresh-overlap-ms:5000}")
+    private long overlapMillis;
+
+    @Value("${ticket.search.batch-size:1000}")
+    private int batchSize;
+
+    private ScheduledExecutorService refresher;
+    private volatile boolean ready;
+
+    // refresher thread only
+    private Date ticketWatermark = new Date(0);
+    private Date itemWatermark = new Date(0);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Ticket search index disabled");
+            return;
+        }
+        searchIndexTopic.subscribe(this::reindex);
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ticket-search-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // first run is the full load (watermark = epoch)
+        refresher.scheduleWithFixedDelay(this::refresh, 0, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    public List<InvertedIndex.Hit<Doc>> searchTickets(String query, int limit) {
+        return tickets.search(query, limit);
+    }
+
+    public List<InvertedIndex.Hit<Doc>> searchItems(String query, int limit) {
+        return items.search(query, limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (!enabled || !(event.id() instanceof Long id)) {
+            return;
+        }
+        if (event.entityType() == Ticket.class) {
+            searchIndexTopic.publish(TYPE_TICKET, id);
+        } else if (event.entityType() == TicketDetail.class) {
+            searchIndexTopic.publish(TYPE_ITEM, id);
+        }
+    }
+
+    // topic handler: re-read the current row rather than trusting the event, so out-of-order messages converge
+    private void reindex(String docType, Long id) {
+        try {
+            if (TYPE_TICKET.equals(docType)) {
+                Ticket ticket = ticketDomainService.getTicketById(id);
+                if (ticket == null) {
+                    tickets.remove(id);
+                } else {
+                    index(ticket);
+                }
+            } else if (TYPE_ITEM.equals(docType)) {
+                TicketDetail ticketDetail = ticketDetailDomainService.getTicketDetailById(id);
+                if (ticketDetail == null) {
+                    items.remove(id);
+                } else {
+                    index(ticketDetail);
+                }
+            }
+        } catch (Exception e) {
+            // the periodic refresh picks it up
+            log.warn("Search re-index failed for {}:{}: {}", docType, id, e.getMessage());
+        }
+    }
+
+    private void refresh() {
+        try {
+            long start = System.currentTimeMillis();
+            CatchUp ticketRun = catchUp(ticketWatermark, ticketDomainService::getTicketsUpdatedAfter,
+                    Ticket::getId, Ticket::getUpdatedAt, this::index);
+            ticketWatermark = ticketRun.watermark();
+            CatchUp itemRun = catchUp(itemWatermark, ticketDetailDomainService::getTicketDetailsUpdatedAfter,
+                    TicketDetail::getId, TicketDetail::getUpdatedAt, this::index);
+            itemWatermark = itemRun.watermark();
+            if (!ready) {
+                ready = true;
+                log.info("Ticket search index loaded: {} tickets, {} items, {} terms in {} ms",
+                        tickets.size(), items.size(), tickets.termCount() + items.termCount(), System.currentTimeMillis() - start);
+            } else if (ticketRun.count() + itemRun.count() > 0) {
+                log.debug("Ticket search refresh: {} tickets, {} items re-indexed", ticketRun.count(), itemRun.count());
+            }
+        } catch (Exception e) {
+            log.warn("Ticket search refresh failed, retrying in {} ms: {}", refreshMillis, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface PageLoader<T> {
+        List<T> load(Date afterUpdated, long afterId, int limit);
+    }
+
+    private record CatchUp(Date watermark, int count) {
+    }
+
+    /**
+     * Pages through rows changed since watermark - overlap and indexes them.
+     * The overlap re-reads the last few seconds: updated_at has second precision and is set before commit,
+     * so a row may become visible with an updated_at older than the previous watermark.
+     */
+    private <T> CatchUp catchUp(Date watermark, PageLoader<T> loader, Function<T, Long> id,
+                                Function<T, Date> updatedAt, Consumer<T> indexer) {
+        Date afterUpdated = watermark.getTime() == 0 ? watermark : new Date(watermark.getTime() - overlapMillis);
+        long afterId = 0;
+        Date maxUpdated = watermark;
+        int count = 0;
+        while (true) {
+            List<T> page = loader.load(afterUpdated, afterId, batchSize);
+            for (T row : page) {
+                indexer.accept(row);
+                Date rowUpdated = updatedAt.apply(row);
+                if (rowUpdated != null && rowUpdated.after(maxUpdated)) {
+                    maxUpdated = rowUpdated;
+                }
+            }
+            count += page.size();
+            if (page.size() < batchSize) {
+                return new CatchUp(maxUpdated, count);
+            }
+            T last = page.get(page.size() - 1);
+            afterUpdated = updatedAt.apply(last);
+            afterId = id.apply(last);
+        }
+    }
+
+    private void index(Ticket ticket) {
+        tickets.put(ticket.getId(), new Doc(null, ticket.getName()),
+                new InvertedIndex.Field(ticket.getName(), NAME_WEIGHT),
+                new InvertedIndex.Field(ticket.getDescription(), DESCRIPTION_WEIGHT));
+    }
+
+    private void index(TicketDetail ticketDetail) {
+        items.put(ticketDetail.getId(), new Doc(ticketDetail.getActivityId(), ticketDetail.getName()),
+                new InvertedIndex.Field(ticketDetail.getName(), NAME_WEIGHT),
+                new InvertedIndex.Field(ticketDetail.getDescription(), DESCRIPTION_WEIGHT));
+    }
+}
@@ -0,0 +1,452 @@
+package com.xxxx.ddd.application.service.ticket.stock;
+
+import com.xxxx.ddd.application.service.ticket.cache.TicketStockCacheService;
+import com.xxxx.ddd.application.service.ticket.order.TicketOrderFailedEvent;
+import com.xxxx.ddd.domain.model.entity.TicketOrder;
+import com.xxxx.ddd.infrastructure.cache.redis.RedisInfrasService;
+import com.xxxx.ddd.domain.service.TicketOrderDomainService;
+import com.xxxx.ddd.infrastructure.cache.soldout.SoldOutService;
+import com.xxxx.ddd.infrastructure.id.IdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Alternative stock engine (ticket.stock.engine=SHARDED): activities are hashed onto single-writer shards,
+ * each a thread applying buy requests from a lock-free ring buffer to in-memory stock — no lock, no Redis call
+ * on the common path. Same result codes as TicketStockCacheService.decrementStock.
+ *
+ * Redis stays the cluster-wide pool: a shard claims stock in blocks (smaller near the end, so the tail spreads
+ * across nodes) and can never sell more than it claimed. Every checkpoint-ms the shard writes its per-user counts
+ * to PRO_TICKET:LIMIT:{activityId} (and takes back the cluster-wide totals) and its unsold allotments to PRO_TICKET:ALLOTTED:{nodeId}:{shard}; on shutdown unsold
+ * stock goes back to the pool.
+ *
+ * Crash reconciliation: every node refreshes PRO_TICKET:ALLOTTED:ALIVE:{nodeId} (alive-ttl-ms) and registers its
+ * allotment hashes in PRO_TICKET:ALLOTTED:REGISTRY. Every reconcile-ms a node looks for hashes whose owner is no longer
+ * alive and gives their allotment back to the pool, minus what the dead node sold after that checkpoint according to
+ * the order table (orders carrying its snowflake worker id). Orders it sold but never wrote count as unsold.
+ */
+@Service
+@ConditionalOnProperty(name = "ticket.stock.engine", havingValue = "SHARDED")
+@Slf4j
+public class ShardedStockEngine {
+
+    // KEYS[1] = stock key; ARGV[1] = block size, ARGV[2] = tail divisor
+    // return {granted, left in pool}; {-2, 0} if the key is missing
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local stock = tonumber(redis.call('GET', KEYS[1])) " +
+            "if stock == nil then return {-2, 0} end " +
+            "if stock <= 0 then return {0, 0} end " +
+            "local take = math.min(stock, tonumber(ARGV[1]), math.max(1, math.ceil(stock / tonumber(ARGV[2])))) " +
+            "return {take, redis.call('DECRBY', KEYS[1], take)}",
+            List.class);
+
+    // KEYS[1] = limit hash; ARGV[1] = userId
+    private static final RedisScript<Long> USER_BOUGHT_SCRIPT = new DefaultRedisScript<>(
+            "return tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')",
+            Long.class);
+
+    // KEYS[1] = hash; ARGV[1] = ttl (s), then field / increment pairs
+    // return the new value of each field, in ARGV order
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HINCRBY_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local totals = {} " +
+            "for i = 2, #ARGV, 2 do totals[#totals + 1] = redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1])) " +
+            "return totals",
+            List.class);
+
+    // KEYS[1] = allotted hash, KEYS[2] = registry set; ARGV[1] = ttl (s), ARGV[2] = checkpoint time, ARGV[3] = worker id,
+    // then item / allotment pairs — replaces the whole hash unless a later checkpoint already landed
+    private static final RedisScript<Long> REPLACE_ALLOTTED_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('HGET', KEYS[1], '-1') or '0') > tonumber(ARGV[2]) then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], '-1', ARGV[2], '-2', ARGV[3]) " +
+            "for i = 4, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1])) " +
+            "redis.call('SADD', KEYS[2], KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    // KEYS[1] = set
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MEMBERS_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('SMEMBERS', KEYS[1])",
+            List.class);
+
+    // KEYS[1] = key
+    private static final RedisScript<Long> EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('EXISTS', KEYS[1])",
+            Long.class);
+
+    // KEYS[1] = hash of numbers; return field, value, field, value... as integers
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> NUMERIC_HASH_SCRIPT = new DefaultRedisScript<>(
+            "local fields = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #fields do fields[i] = tonumber(fields[i]) end " +
+            "return fields",
+            List.class);
+
+    // KEYS[1] = registry set, KEYS[2] = allotted hash, KEYS[3] = owner alive key, KEYS[4..] = stock keys;
+    // ARGV[1] = checkpoint time read by the caller, ARGV[2..] = quantity to give back per stock key.
+    // Owner alive again, hash rewritten since the read, or another node won the SREM → 0, nothing returned.
+    private static final RedisScript<Long> RECLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[3]) == 1 then return 0 end " +
+            "if tonumber(redis.call('HGET', KEYS[2], '-1') or '-1') ~= tonumber(ARGV[1]) then return 0 end " +
+            "if redis.call('SREM', KEYS[1], KEYS[2]) == 0 then return 0 end " +
+            "for i = 4, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then redis.call('INCRBY', KEYS[i], ARGV[i - 2]) end " +
+            "end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "return 1",
+            Long.class);
+
+    private static final String ALLOTTED_PREFIX = "PRO_TICKET:ALLOTTED:";
+    private static final String REGISTRY_KEY = ALLOTTED_PREFIX + "REGISTRY";
+    private static final String ALIVE_PREFIX = ALLOTTED_PREFIX + "ALIVE:";
+    private static final long FIELD_CHECKPOINT_AT = -1;
+    private static final long FIELD_WORKER_ID = -2;
+
+    // KEYS[1] = stock key; ARGV[1] = quantity
+    private static final RedisScript<Long> RETURN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end " +
+            "return redis.call('INCRBY', KEYS[1], ARGV[1])",
+            Long.class);
+
+    @Autowired
+    private RedisInfrasService redisInfrasService;
+
+    @Autowired
+    private TicketStockCacheService ticketStockCacheService;
+
+    @Autowired
+    private SoldOutService soldOutService;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private TicketOrderDomainService ticketOrderDomainService;
+
+    @Value("${ticket.stock.sharded.shards:0}") // 0 = one per core
+    private int shardCount;
+
+    @Value("${ticket.stock.sharded.ring-size:65536}")
+    private int ringSize;
+
+    @Value("${ticket.stock.sharded.block-size:100}")
+    private long blockSize;
+
+    @Value("${ticket.stock.sharded.low-watermark:20}")
+    private long lowWatermark;
+
+    @Value("${ticket.stock.sharded.tail-divisor:8}")
+    private long tailDivisor;
+
+    @Value("${ticket.stock.sharded.timeout-ms:200}")
+    private long timeoutMs;
+
+    @Value("${ticket.stock.sharded.checkpoint-ms:1000}")
+    private long checkpointMs;
+
+    @Value("${ticket.stock.sharded.reprobe-ms:1000}")
+    private long reprobeMs;
+
+    @Value("${ticket.stock.sharded.idle-evict-ms:600000}")
+    private long idleEvictMs;
+
+    @Value("${ticket.stock.sharded.max-users-per-activity:1000000}")
+    private int maxUsersPerActivity;
+
+    @Value("${ticket.stock.sharded.alive-ttl-ms:10000}")
+    private long aliveTtlMs;
+
+    @Value("${ticket.stock.sharded.reconcile-ms:30000}")
+    private long reconcileMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ExecutorService ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private ScheduledExecutorService checkpointTimer;
+    private StockShard[] shards;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        shards = new StockShard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new StockShard(this, i, ringSize, ticketStockCacheService.getMaxPerUser(), lowWatermark,
+                    reprobeMs, idleEvictMs, maxUsersPerActivity, checkpointMs);
+            shards[i].start();
+        }
+        running = true;
+
+        checkpointTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-shard-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkpointTimer.scheduleWithFixedDelay(() -> {
+            redisInfrasService.setObject(getAliveKey(nodeId), 1, aliveTtlMs, TimeUnit.MILLISECONDS);
+            for (StockShard shard : shards) {
+                shard.offer(StockCommand.checkpoint()); // skipped if the ring is full; the next one catches up
+            }
+        }, checkpointMs, checkpointMs, TimeUnit.MILLISECONDS);
+        checkpointTimer.scheduleWithFixedDelay(() -> submit(this::reconcile), reconcileMs, reconcileMs, TimeUnit.MILLISECONDS);
+        log.info("Sharded stock engine started: shards={}, ringSize={}, blockSize={}, nodeId={}", count, ringSize, blockSize, nodeId);
+    }
+
+    /**
+     * @return remaining stock (>= 0, this node's allotment + what was left in Redis at the last claim) on success,
+     * or one of the TicketStockCacheService codes; null if the shard is saturated, Redis is unavailable or the
+     * request timed out (nothing was sold in that case)
+     */
+    public Long decrementStock(Long ticketItemId, Long activityId, Long userId, int quantity) {
+        StockCommand command = StockCommand.buy(ticketItemId, activityId, userId, quantity);
+        if (!shardFor(activityId).offer(command)) {
+            return null;
+        }
+        try {
+            return command.result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // the shard undoes the sale if it completes after this
+            return command.result.complete(null) ? null : command.result.getNow(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            command.result.complete(null);
+            return command.result.getNow(null);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private StockShard shardFor(long activityId) {
+        return shards[Math.floorMod(Long.hashCode(activityId * 0x9E3779B97F4A7C15L), shards.length)];
+    }
+
+    // TicketStockCacheService gives the stock and the Redis count back; the shard drops the purchase from its own count
+    @EventListener
+    public void onOrderFailed(TicketOrderFailedEvent event) {
+        TicketOrder ticketOrder = event.ticketOrder();
+        shardFor(ticketOrder.getActivityId()).post(
+                StockCommand.release(ticketOrder.getActivityId(), ticketOrder.getUserId(), ticketOrder.getQuantity()));
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    // --- I/O started by a shard; results are posted back to it ---
+
+    boolean claim(StockShard shard, long ticketItemId) {
+        return submit(() -> {
+            List<?> result = claimBlock(ticketItemId);
+            if (result != null && ((Number) result.get(0)).longValue() == TicketStockCacheService.STOCK_MISSING
+                    && ticketStockCacheService.initStock(ticketItemId)) {
+                result = claimBlock(ticketItemId);
+            }
+            if (result == null) {
+                shard.post(StockCommand.allotment(ticketItemId, 0, 0, true));
+                return;
+            }
+            long granted = ((Number) result.get(0)).longValue();
+            long poolRemaining = ((Number) result.get(1)).longValue();
+            log.debug("Stock claimed: id={}, granted={}, poolRemaining={}", ticketItemId, granted, poolRemaining);
+            shard.post(StockCommand.allotment(ticketItemId, granted, poolRemaining, false));
+        });
+    }
+
+    private List<?> claimBlock(long ticketItemId) {
+        return redisInfrasService.executeScript(CLAIM_SCRIPT, List.of(ticketStockCacheService.getStockKey(ticketItemId)),
+                blockSize, tailDivisor);
+    }
+
+    boolean loadUser(StockShard shard, long activityId, long userId) {
+        return submit(() -> {
+            Long bought = redisInfrasService.executeScript(USER_BOUGHT_SCRIPT,
+                    List.of(ticketStockCacheService.getLimitKey(activityId)), userId);
+            shard.post(StockCommand.userLoaded(activityId, userId, bought == null ? 0 : bought.intValue(), bought == null));
+        });
+    }
+
+    void writeCheckpoint(StockShard shard, Map<Long, Map<Long, Integer>> deltas, Map<Long, Long> allotments, long checkpointAt) {
+        boolean submitted = submit(() -> {
+            deltas.forEach((activityId, userDeltas) -> {
+                Map<Long, Integer> totals = writeDeltas(activityId, userDeltas);
+                shard.post(totals == null
+                        ? StockCommand.restoreDeltas(activityId, userDeltas)
+                        : StockCommand.flushed(activityId, userDeltas, totals));
+            });
+            writeAllotments(shard, allotments, checkpointAt);
+        });
+        if (!submitted) {
+            deltas.forEach((activityId, userDeltas) -> shard.post(StockCommand.restoreDeltas(activityId, userDeltas)));
+        }
+    }
+
+    // @return userId -> count after the write, null if Redis is unavailable
+    private Map<Long, Integer> writeDeltas(long activityId, Map<Long, Integer> userDeltas) {
+        List<Long> userIds = new ArrayList<>(userDeltas.size());
+        List<Object> args = new ArrayList<>(1 + userDeltas.size() * 2);
+        args.add(ticketStockCacheService.getLimitTtlSeconds());
+        userDeltas.forEach((userId, delta) -> {
+            userIds.add(userId);
+            args.add(userId);
+            args.add(delta);
+        });
+        List<?> result = redisInfrasService.executeScript(HINCRBY_ALL_SCRIPT,
+                List.of(ticketStockCacheService.getLimitKey(activityId)), args.toArray());
+        if (result == null) {
+            return null;
+        }
+        Map<Long, Integer> totals = new HashMap<>(userIds.size() * 2);
+        for (int i = 0; i < userIds.size() && i < result.size(); i++) {
+            totals.put(userIds.get(i), ((Number) result.get(i)).intValue());
+        }
+        return totals;
+    }
+
+    // per node and shard: what this node holds in memory, for reconciliation after a crash
+    private void writeAllotments(StockShard shard, Map<Long, Long> allotments, long checkpointAt) {
+        List<Object> args = new ArrayList<>(3 + allotments.size() * 2);
+        args.add(TimeUnit.DAYS.toSeconds(1));
+        args.add(checkpointAt);
+        args.add(idGenerator.getWorkerId());
+        allotments.forEach((ticketItemId, allotment) -> {
+            args.add(ticketItemId);
+            args.add(allotment);
+        });
+        redisInfrasService.executeScript(REPLACE_ALLOTTED_SCRIPT, List.of(getAllottedKey(shard), REGISTRY_KEY), args.toArray());
+    }
+
+    // allotment hashes of nodes that stopped refreshing their alive key
+    private void reconcile() {
+        List<?> allottedKeys = redisInfrasService.executeScript(MEMBERS_SCRIPT, List.of(REGISTRY_KEY));
+        if (allottedKeys == null) {
+            return;
+        }
+        for (Object member : allottedKeys) {
+            String allottedKey = String.valueOf(member);
+            String owner = allottedKey.substring(ALLOTTED_PREFIX.length(), allottedKey.lastIndexOf(':'));
+            if (owner.equals(nodeId)) {
+                continue;
+            }
+            Long alive = redisInfrasService.executeScript(EXISTS_SCRIPT, List.of(getAliveKey(owner)));
+            if (alive != null && alive == 0) {
+                try {
+                    reclaim(allottedKey, owner);
+                } catch (Exception e) {
+                    log.warn("Allotment reclaim failed for {}, retrying next pass: {}", allottedKey, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void reclaim(String allottedKey, String owner) {
+        List<?> fields = redisInfrasService.executeScript(NUMERIC_HASH_SCRIPT, List.of(allottedKey));
+        if (fields == null) {
+            return;
+        }
+        long checkpointAt = -1;
+        long workerId = -1;
+        Map<Long, Long> allotments = new HashMap<>();
+        for (int i = 0; i + 1 < fields.size(); i += 2) {
+            long field = ((Number) fields.get(i)).longValue();
+            long value = ((Number) fields.get(i + 1)).longValue();
+            if (field == FIELD_CHECKPOINT_AT) {
+                checkpointAt = value;
+            } else if (field == FIELD_WORKER_ID) {
+                workerId = value;
+            } else {
+                allotments.put(field, value);
+            }
+        }
+
+        List<String> keys = new ArrayList<>(List.of(REGISTRY_KEY, allottedKey, getAliveKey(owner)));
+        List<Object> args = new ArrayList<>();
+        args.add(checkpointAt);
+        Map<Long, Long> returned = new HashMap<>();
+        for (Map.Entry<Long, Long> allotment : allotments.entrySet()) {
+            // sold after the checkpoint: no longer part of the allotment; without a worker id nothing can be proven unsold
+            long soldSince = workerId < 0 ? allotment.getValue()
+                    : ticketOrderDomainService.getSoldQuantityByWorkerSince(allotment.getKey(), workerId, checkpointAt);
+            long giveBack = allotment.getValue() - soldSince;
+            if (giveBack > 0) {
+                keys.add(ticketStockCacheService.getStockKey(allotment.getKey()));
+                args.add(giveBack);
+                returned.put(allotment.getKey(), giveBack);
+            }
+        }
+
+        Long reclaimed = redisInfrasService.executeScript(RECLAIM_SCRIPT, keys, args.toArray());
+        if (reclaimed != null && reclaimed == 1) {
+            returned.keySet().forEach(soldOutService::clearSoldOut);
+            log.warn("Reclaimed allotments of dead node {}: key={}, checkpointAt={}, returned={}", owner, allottedKey, checkpointAt, returned);
+        }
+    }
+
+    private boolean submit(Runnable task) {
+        try {
+            ioExecutor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private String getAllottedKey(StockShard shard) {
+        return ALLOTTED_PREFIX + nodeId + ":" + shard.index();
+    }
+
+    private String getAliveKey(String node) {
+        return ALIVE_PREFIX + node;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        checkpointTimer.shutdownNow();
+        // let in-flight claims land in their shard before it stops
+        ioExecutor.shutdown();
+        ioExecutor.awaitTermination(2, TimeUnit.SECONDS);
+        running = false;
+
+        for (StockShard shard : shards) {
+            shard.stop();
+            Map<Long, Map<Long, Integer>> deltas = new HashMap<>();
+            Map<Long, Long> allotments = new HashMap<>();
+            shard.drainStopped(deltas, allotments);
+
+            deltas.forEach(this::writeDeltas);
+            allotments.forEach((ticketItemId, allotment) -> {
+                Long pool = redisInfrasService.executeScript(RETURN_SCRIPT, List.of(ticketStockCacheService.getStockKey(ticketItemId)), allotment);
+                if (pool != null && pool > 0) {
+                    soldOutService.clearSoldOut(ticketItemId); // the pool may have been marked sold out while we held the tail
+                }
+            });
+            redisInfrasService.delete(getAllottedKey(shard)); // its registry entry is dropped by the next reconcile pass
+            log.info("Stock shard stopped: returned {} items to the pool, flushed {} activities", allotments.size(), deltas.size());
+        }
+        redisInfrasService.delete(getAliveKey(nodeId));
+    }
+}
@@ -0,0 +1,93 @@
+package com.xxxx.ddd.application.service.ticket.stock;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Event applied by a StockShard on its own thread: a buy request from a caller, or the result of
+ * Redis I/O the shard started off-thread (allotment claim, user count load, checkpoint write),
+ * or a purchase given back after the sale (order row never written).
+ */
+final class StockCommand {
+
+    enum Type { BUY, ALLOTMENT, USER_LOADED, CHECKPOINT, RESTORE_DELTAS, FLUSHED, RELEASE }
+
+    final Type type;
+
+    long ticketItemId;
+    long activityId;
+    long userId;
+    int quantity;
+    CompletableFuture<Long> result;
+
+    // ALLOTMENT: stock granted to the shard and left in the Redis pool; USER_LOADED: tickets already bought
+    long granted;
+    long poolRemaining;
+    int bought;
+    // ALLOTMENT / USER_LOADED: Redis unavailable
+    boolean failed;
+
+    // RESTORE_DELTAS: userId -> count not yet written to PRO_TICKET:LIMIT:{activityId}; FLUSHED: count written
+    Map<Long, Integer> deltas;
+    // FLUSHED: userId -> total in PRO_TICKET:LIMIT:{activityId} right after the write (all nodes)
+    Map<Long, Integer> totals;
+
+    private StockCommand(Type type) {
+        this.type = type;
+    }
+
+    static StockCommand buy(long ticketItemId, long activityId, long userId, int quantity) {
+        StockCommand command = new StockCommand(Type.BUY);
+        command.ticketItemId = ticketItemId;
+        command.activityId = activityId;
+        command.userId = userId;
+        command.quantity = quantity;
+        command.result = new CompletableFuture<>();
+        return command;
+    }
+
+    static StockCommand allotment(long ticketItemId, long granted, long poolRemaining, boolean failed) {
+        StockCommand command = new StockCommand(Type.ALLOTMENT);
+        command.ticketItemId = ticketItemId;
+        command.granted = granted;
+        command.poolRemaining = poolRemaining;
+        command.failed = failed;
+        return command;
+    }
+
+    static StockCommand userLoaded(long activityId, long userId, int bought, boolean failed) {
+        StockCommand command = new StockCommand(Type.USER_LOADED);
+        command.activityId = activityId;
+        command.userId = userId;
+        command.bought = bought;
+        command.failed = failed;
+        return command;
+    }
+
+    static StockCommand checkpoint() {
+        return new StockCommand(Type.CHECKPOINT);
+    }
+
+    static StockCommand restoreDeltas(long activityId, Map<Long, Integer> deltas) {
+        StockCommand command = new StockCommand(Type.RESTORE_DELTAS);
+        command.activityId = activityId;
+        command.deltas = deltas;
+        return command;
+    }
+
+    static StockCommand flushed(long activityId, Map<Long, Integer> deltas, Map<Long, Integer> totals) {
+        StockCommand command = new StockCommand(Type.FLUSHED);
+        command.activityId = activityId;
+        command.deltas = deltas;
+        command.totals = totals;
+        return command;
+    }
+
+    static StockCommand release(long activityId, long userId, int quantity) {
+        StockCommand command = new StockCommand(Type.RELEASE);
+        command.activityId = activityId;
+        command.userId = userId;
+        command.quantity = quantity;
+        return command;
+    }
+}
@@ -0,0 +1,354 @@
+package com.xxxx.ddd.application.service.ticket.stock;
+
+import com.xxxx.ddd.application.service.ticket.cache.TicketStockCacheService;
+import com.xxxx.ddd.infrastructure.concurrent.SingleWriterLoop;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Owns the stock of the activities hashed to it. Every field is touched by the shard thread only
+ * (plain HashMaps, no locks); Redis I/O is started through ShardedStockEngine and its result comes back as a command.
+ *
+ * - Stock is sold from an allotment claimed from PRO_TICKET:STOCK:{itemId}; below the low watermark the next block
+ *   is claimed in the background. Requests that do not fit wait (in order) for the claim.
+ * - Per-user counts are loaded from PRO_TICKET:LIMIT:{activityId} on the user's first request and kept in memory;
+ *   increments are written back at each checkpoint, whose reply refreshes the written users with the cluster-wide total.
+ *   A count neither refreshed nor pending for count-ttl-ms is reloaded on the user's next request, so purchases made
+ *   on other nodes are seen within a checkpoint or so. A failed order gives its count back (RELEASE).
+ * - An empty pool is re-probed after reprobe-ms: stock given back (cancelled order, node shutdown, reconciliation)
+ *   becomes sellable again.
+ * - Activities and items idle for idle-evict-ms are dropped, and an activity's flushed user counts are dropped past
+ *   max-users-per-activity; both reload from Redis on the next request. Time is the shard clock, advanced at checkpoints.
+ */
+final class StockShard {
+
+    private static final class ItemState {
+        long allotment;
+        long poolRemaining;
+        boolean poolEmpty;
+        long poolEmptyAt;
+        boolean claiming;
+        long lastUsedAt;
+        final ArrayDeque<StockCommand> waiting = new ArrayDeque<>();
+    }
+
+    private static final class ActivityState {
+        long lastUsedAt;
+        final Map<Long, Integer> bought = new HashMap<>();
+        // userId -> shard clock when bought was last read from Redis
+        final Map<Long, Long> loadedAt = new HashMap<>();
+        final Map<Long, Integer> dirty = new HashMap<>();
+        // taken from dirty by a checkpoint whose write has not come back yet
+        final Map<Long, Integer> flushing = new HashMap<>();
+        final Map<Long, ArrayDeque<StockCommand>> loadingUsers = new HashMap<>();
+    }
+
+    private final int index;
+    private final ShardedStockEngine engine;
+    private final SingleWriterLoop<StockCommand> loop;
+    private final int maxPerUser;
+    private final long lowWatermark;
+    private final long reprobeMs;
+    private final long idleEvictMs;
+    private final int maxUsersPerActivity;
+    private final long countTtlMs;
+
+    private final Map<Long, ItemState> items = new HashMap<>();
+    private final Map<Long, ActivityState> activities = new HashMap<>();
+
+    // epoch millis, set at each checkpoint: no clock read on the buy path
+    private long clock = System.currentTimeMillis();
+    private long lastEvictionAt = clock;
+
+    StockShard(ShardedStockEngine engine, int index, int ringSize, int maxPerUser, long lowWatermark,
+               long reprobeMs, long idleEvictMs, int maxUsersPerActivity, long countTtlMs) {
+        this.index = index;
+        this.engine = engine;
+        this.loop = new SingleWriterLoop<>("stock-shard-" + index, ringSize, this::apply);
+        this.maxPerUser = maxPerUser;
+        this.lowWatermark = lowWatermark;
+        this.reprobeMs = Math.max(1, reprobeMs); // 0 would re-claim forever within one shard tick
+        this.idleEvictMs = idleEvictMs;
+        this.maxUsersPerActivity = maxUsersPerActivity;
+        this.countTtlMs = countTtlMs;
+    }
+
+    void start() {
+        loop.start();
+    }
+
+    void stop() throws InterruptedException {
+        loop.stop(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Caller request; false if the ring is full.
+     */
+    boolean offer(StockCommand command) {
+        return loop.offer(command);
+    }
+
+    /**
+     * Result of the shard's own I/O: must not be lost, so a full ring is retried until the shard stops.
+     */
+    void post(StockCommand command) {
+        while (!loop.offer(command)) {
+            if (!engine.isRunning()) {
+                return;
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    int index() {
+        return index;
+    }
+
+    int backlog() {
+        return loop.backlog();
+    }
+
+    private void apply(StockCommand command) {
+        switch (command.type) {
+            case BUY -> buy(command);
+            case ALLOTMENT -> onAllotment(command);
+            case USER_LOADED -> onUserLoaded(command);
+            case CHECKPOINT -> checkpoint();
+            case RESTORE_DELTAS -> onRestoreDeltas(command);
+            case FLUSHED -> onFlushed(command);
+            case RELEASE -> onRelease(command);
+        }
+    }
+
+    private void buy(StockCommand command) {
+        if (command.result.isDone()) {
+            return; // caller gave up while the request was queued or waiting
+        }
+        ActivityState activity = activity(command.activityId);
+        activity.lastUsedAt = clock;
+
+        // 1. per-user limit: count known in memory, or (re)loaded from Redis
+        Integer bought = activity.bought.get(command.userId);
+        if (bought != null && isStale(activity, command.userId)) {
+            activity.bought.remove(command.userId);
+            activity.loadedAt.remove(command.userId);
+            bought = null;
+        }
+        if (bought == null) {
+            ArrayDeque<StockCommand> waiting = activity.loadingUsers.get(command.userId);
+            if (waiting == null) {
+                waiting = new ArrayDeque<>();
+                activity.loadingUsers.put(command.userId, waiting);
+                if (!engine.loadUser(this, command.activityId, command.userId)) {
+                    onUserLoaded(StockCommand.userLoaded(command.activityId, command.userId, 0, true));
+                    command.result.complete(null);
+                    return;
+                }
+            }
+            waiting.add(command);
+            return;
+        }
+        if (bought >= maxPerUser) {
+            command.result.complete(TicketStockCacheService.USER_LIMIT_REACHED);
+            return;
+        }
+        if (bought + command.quantity > maxPerUser) {
+            command.result.complete(TicketStockCacheService.USER_LIMIT_EXCEEDED);
+            return;
+        }
+
+        // 2. stock from the local allotment
+        ItemState item = items.computeIfAbsent(command.ticketItemId, id -> new ItemState());
+        item.lastUsedAt = clock;
+        if (item.allotment >= command.quantity) {
+            allocate(command, activity, item, bought);
+            return;
+        }
+        if (!item.poolEmpty || clock - item.poolEmptyAt >= reprobeMs) {
+            item.waiting.add(command);
+            claim(command.ticketItemId, item);
+            return;
+        }
+        command.result.complete(item.allotment == 0 ? TicketStockCacheService.STOCK_SOLD_OUT : TicketStockCacheService.STOCK_NOT_ENOUGH);
+    }
+
+    private void allocate(StockCommand command, ActivityState activity, ItemState item, int bought) {
+        item.allotment -= command.quantity;
+        activity.bought.put(command.userId, bought + command.quantity);
+        activity.dirty.merge(command.userId, command.quantity, Integer::sum);
+
+        if (!command.result.complete(item.allotment + item.poolRemaining)) {
+            // caller timed out between the isDone check and now: undo, the sale never happened
+            item.allotment += command.quantity;
+            activity.bought.put(command.userId, bought);
+            activity.dirty.merge(command.userId, -command.quantity, StockShard::sumOrRemove);
+            return;
+        }
+        if (!item.poolEmpty && item.allotment < lowWatermark) {
+            claim(command.ticketItemId, item);
+        }
+    }
+
+    private void claim(long ticketItemId, ItemState item) {
+        if (item.claiming) {
+            return;
+        }
+        item.claiming = true;
+        if (!engine.claim(this, ticketItemId)) {
+            onAllotment(StockCommand.allotment(ticketItemId, 0, 0, true));
+        }
+    }
+
+    private void onAllotment(StockCommand command) {
+        ItemState item = items.get(command.ticketItemId);
+        if (item == null) {
+            return;
+        }
+        item.claiming = false;
+        ArrayDeque<StockCommand> waiting = new ArrayDeque<>(item.waiting);
+        item.waiting.clear();
+
+        if (command.failed) {
+            waiting.forEach(waiter -> waiter.result.complete(null)); // BUSY
+            return;
+        }
+        if (command.granted == TicketStockCacheService.STOCK_MISSING) {
+            items.remove(command.ticketItemId);
+            waiting.forEach(waiter -> waiter.result.complete(TicketStockCacheService.STOCK_MISSING));
+            return;
+        }
+        item.allotment += command.granted;
+        item.poolRemaining = command.poolRemaining;
+        item.poolEmpty = command.poolRemaining <= 0;
+        item.poolEmptyAt = clock;
+        waiting.forEach(this::buy); // same order; anything still short waits for the next claim
+    }
+
+    private void onUserLoaded(StockCommand command) {
+        ActivityState activity = activity(command.activityId);
+        ArrayDeque<StockCommand> waiting = activity.loadingUsers.remove(command.userId);
+        if (waiting == null) {
+            return;
+        }
+        if (command.failed) {
+            waiting.forEach(waiter -> waiter.result.complete(null));
+            return;
+        }
+        // nothing pending for this user here (see isStale / evictIdle): the Redis count is the whole count
+        activity.bought.put(command.userId, command.bought);
+        activity.loadedAt.put(command.userId, clock);
+        waiting.forEach(this::buy);
+    }
+
+    // only a count with no increment of its own in dirty or in flight: those would be lost or counted twice by a reload
+    private boolean isStale(ActivityState activity, long userId) {
+        Long loadedAt = activity.loadedAt.get(userId);
+        return (loadedAt == null || clock - loadedAt >= countTtlMs)
+                && !activity.dirty.containsKey(userId) && !activity.flushing.containsKey(userId);
+    }
+
+    private void onRestoreDeltas(StockCommand command) {
+        ActivityState activity = activity(command.activityId);
+        command.deltas.forEach((userId, delta) -> activity.flushing.merge(userId, -delta, StockShard::sumOrRemove));
+        activity.dirty.putAll(mergeDeltas(command));
+    }
+
+    private void onFlushed(StockCommand command) {
+        ActivityState activity = activity(command.activityId);
+        command.deltas.forEach((userId, delta) -> activity.flushing.merge(userId, -delta, StockShard::sumOrRemove));
+        command.totals.forEach((userId, total) -> {
+            // another write still in flight: the total may or may not include it, wait for its own reply
+            if (activity.flushing.containsKey(userId) || !activity.bought.containsKey(userId)) {
+                return;
+            }
+            activity.bought.put(userId, total + activity.dirty.getOrDefault(userId, 0));
+            activity.loadedAt.put(userId, clock);
+        });
+    }
+
+    // the order was not written: PRO_TICKET:LIMIT was already decremented by TicketStockCacheService.restoreStock
+    private void onRelease(StockCommand command) {
+        ActivityState activity = activity(command.activityId);
+        Integer bought = activity.bought.get(command.userId);
+        if (bought != null) {
+            activity.bought.put(command.userId, Math.max(0, bought - command.quantity));
+        }
+    }
+
+    private void checkpoint() {
+        clock = System.currentTimeMillis();
+        if (clock - lastEvictionAt >= idleEvictMs / 10) {
+            lastEvictionAt = clock;
+            evictIdle();
+        }
+
+        Map<Long, Map<Long, Integer>> deltas = new HashMap<>();
+        activities.forEach((activityId, activity) -> {
+            if (!activity.dirty.isEmpty()) {
+                deltas.put(activityId, new HashMap<>(activity.dirty));
+                activity.dirty.forEach((userId, delta) -> activity.flushing.merge(userId, delta, Integer::sum));
+                activity.dirty.clear();
+            }
+        });
+        engine.writeCheckpoint(this, deltas, allotments(), clock);
+    }
+
+    // before the deltas are taken: an activity with unflushed counts is kept
+    private void evictIdle() {
+        activities.values().removeIf(activity -> activity.dirty.isEmpty() && activity.flushing.isEmpty()
+                && activity.loadingUsers.isEmpty() && clock - activity.lastUsedAt >= idleEvictMs);
+        activities.values().forEach(activity -> {
+            if (activity.bought.size() > maxUsersPerActivity) {
+                activity.bought.keySet().removeIf(userId -> !activity.dirty.containsKey(userId) && !activity.flushing.containsKey(userId));
+                activity.loadedAt.keySet().retainAll(activity.bought.keySet());
+            }
+        });
+        // items still holding an allotment stay: it is returned to the pool on shutdown
+        items.values().removeIf(item -> item.allotment == 0 && !item.claiming && item.waiting.isEmpty()
+                && clock - item.lastUsedAt >= idleEvictMs);
+    }
+
+    private Map<Long, Integer> mergeDeltas(StockCommand command) {
+        Map<Long, Integer> merged = new HashMap<>(command.deltas);
+        activity(command.activityId).dirty.forEach((userId, delta) -> merged.merge(userId, delta, Integer::sum));
+        return merged;
+    }
+
+    private Map<Long, Long> allotments() {
+        Map<Long, Long> allotments = new HashMap<>();
+        items.forEach((ticketItemId, item) -> {
+            if (item.allotment > 0) {
+                allotments.put(ticketItemId, item.allotment);
+            }
+        });
+        return allotments;
+    }
+
+    private static Integer sumOrRemove(Integer a, Integer b) {
+        int sum = a + b;
+        return sum == 0 ? null : sum;
+    }
+
+    private ActivityState activity(long activityId) {
+        return activities.computeIfAbsent(activityId, id -> new ActivityState());
+    }
+
+    /**
+     * After stop(): the shard thread has ended (join), so its state can be read here.
+     * Fails requests still waiting and hands back what must be written to Redis.
+     */
+    void drainStopped(Map<Long, Map<Long, Integer>> deltas, Map<Long, Long> allotments) {
+        items.values().forEach(item -> item.waiting.forEach(waiter -> waiter.result.complete(null)));
+        activities.forEach((activityId, activity) -> {
+            activity.loadingUsers.values().forEach(waiting -> waiting.forEach(waiter -> waiter.result.complete(null)));
+            if (!activity.dirty.isEmpty()) {
+                deltas.put(activityId, activity.dirty);
+            }
+        });
+        allotments.putAll(allotments());
+    }
+}
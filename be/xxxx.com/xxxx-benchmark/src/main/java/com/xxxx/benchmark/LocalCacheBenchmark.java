@@ -0,0 +1,166 @@
+package com.xxxx.benchmark;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.cache.CacheBuilder;
+import com.xxxx.ddd.infrastructure.cache.local.LongKeyCache;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * L1 candidates for TicketDetailCacheService under the same workload:
+ * Zipf-distributed ids over 2x the cache size, get then put on miss (cache-aside).
+ * hits / misses are reported as aux counters, so throughput is compared at the hit ratio each policy reaches.
+ *
+ * java -jar xxxx-benchmark/target/benchmarks.jar LocalCacheBenchmark -p skew=0.99
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class LocalCacheBenchmark {
+
+    private static final int KEY_STREAM = 1 << 20;
+    private static final Object VALUE = new Object();
+
+    @Param({"guava", "caffeine", "longKey"})
+    public String cache;
+
+    @Param({"100000"})
+    public int maximumSize;
+
+    @Param({"0.99"})
+    public double skew;
+
+    private LocalCache localCache;
+    private long[] keys;
+    private long[] hotKeys;
+
+    interface LocalCache {
+        Object get(long key);
+
+        void put(long key, Object value);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        localCache = switch (cache) {
+            case "guava" -> {
+                com.google.common.cache.Cache<Long, Object> guava = CacheBuilder.newBuilder()
+                        .maximumSize(maximumSize)
+                        .concurrencyLevel(16)
+                        .expireAfterWrite(10, TimeUnit.MINUTES)
+                        .build();
+                yield new LocalCache() {
+                    public Object get(long key) { return guava.getIfPresent(key); }
+                    public void put(long key, Object value) { guava.put(key, value); }
+                };
+            }
+            case "caffeine" -> {
+                com.github.benmanes.caffeine.cache.Cache<Long, Object> caffeine = Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(10, TimeUnit.MINUTES)
+                        .build();
+                yield new LocalCache() {
+                    public Object get(long key) { return caffeine.getIfPresent(key); }
+                    public void put(long key, Object value) { caffeine.put(key, value); }
+                };
+            }
+            case "longKey" -> {
+                LongKeyCache<Object> longKey = new LongKeyCache<>(maximumSize, 10, TimeUnit.MINUTES);
+                yield new LocalCache() {
+                    public Object get(long key) { return longKey.getIfPresent(key); }
+                    public void put(long key, Object value) { longKey.put(key, value); }
+                };
+            }
+            default -> throw new IllegalArgumentException(cache);
+        };
+
+        keys = zipfKeys(2 * maximumSize, skew, KEY_STREAM);
+        // warm to steady state so every implementation starts full
+        for (long key : keys) {
+            if (localCache.get(key) == null) {
+                localCache.put(key, VALUE);
+            }
+        }
+        hotKeys = new long[1024];
+        for (int rank = 0; rank < hotKeys.length; rank++) {
+            hotKeys[rank] = scatter(rank);
+            localCache.put(hotKeys[rank], VALUE);
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadState {
+        public long hits;
+        public long misses;
+        int index = (int) (Math.random() * KEY_STREAM);
+    }
+
+    @Benchmark
+    public Object cacheAside(ThreadState state) {
+        long key = keys[state.index++ & (KEY_STREAM - 1)];
+        Object value = localCache.get(key);
+        if (value != null) {
+            state.hits++;
+            return value;
+        }
+        state.misses++;
+        localCache.put(key, VALUE);
+        return VALUE;
+    }
+
+    @Benchmark
+    public Object hitOnly(ThreadState state) {
+        // 1024 hottest ids, resident after setup: pure lookup cost
+        return localCache.get(hotKeys[state.index++ & (hotKeys.length - 1)]);
+    }
+
+    // inverse-CDF Zipf over [1, n], ids scattered so hot keys are not adjacent
+    private static long[] zipfKeys(int n, double s, int count) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, s);
+            cdf[i] = sum;
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            double u = random.nextDouble() * sum;
+            int low = 0, high = n - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cdf[mid] < u) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            keys[i] = scatter(low);
+        }
+        return keys;
+    }
+
+    private static long scatter(int rank) {
+        return (rank * 0x9E3779B97F4A7C15L) >>> 20;
+    }
+}
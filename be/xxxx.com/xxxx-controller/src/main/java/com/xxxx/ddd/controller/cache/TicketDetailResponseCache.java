@@ -0,0 +1,167 @@
+package com.xxxx.ddd.controller.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.xxxx.ddd.application.service.ticket.cache.TicketDetailInvalidatedEvent;
+import com.xxxx.ddd.controller.model.vo.ResultMessage;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of fully encoded ticket detail responses, keyed by detail id and version (ticket_item.version).
+ *
+ * The body is serialized once (compact JSON, ignoring spring.jackson.serialization.indent-output)
+ * and optionally gzipped once; a hit only copies the bytes to the servlet output stream.
+ * Note: ResultMessage.timestamp of a cached body is the time it was encoded.
+ *
+ * A lookup only matches its exact version, so an old body is never served; it is still evicted when the detail
+ * changes (TicketDetailInvalidatedEvent, every node) instead of holding memory until it expires.
+ */
+@Component
+@Slf4j
+public class TicketDetailResponseCache {
+
+    private final Cache<Long, EncodedResponse> responseCache;
+    private final ObjectMapper compactMapper;
+    private final boolean gzipEnabled;
+    private final int gzipMinBytes;
+
+    @Autowired
+    public TicketDetailResponseCache(ObjectMapper objectMapper,
+                                     @Value("${ticket.response-cache.max-size:10000}") long maxSize,
+                                     @Value("${ticket.response-cache.gzip.enabled:true}") boolean gzipEnabled,
+                                     @Value("${ticket.response-cache.gzip.min-bytes:1024}") int gzipMinBytes) {
+        this.compactMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.responseCache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * @return the encoded response for this exact version, or null
+     */
+    public EncodedResponse get(Long detailId, long version) {
+        EncodedResponse encoded = responseCache.getIfPresent(detailId);
+        if (encoded == null || encoded.version() != version) {
+            return null;
+        }
+        return encoded;
+    }
+
+    public EncodedResponse put(Long detailId, long version, ResultMessage<TicketDetail> message) {
+        EncodedResponse encoded = encode(version, message);
+        responseCache.put(detailId, encoded);
+        return encoded;
+    }
+
+    public void evict(Long detailId) {
+        responseCache.invalidate(detailId);
+    }
+
+    @EventListener
+    public void onTicketDetailInvalidated(TicketDetailInvalidatedEvent event) {
+        evict(event.ticketItemId());
+    }
+
+    /**
+     * Encode without caching (e.g. when the detail has no version).
+     */
+    public EncodedResponse encode(long version, ResultMessage<TicketDetail> message) {
+        try {
+            byte[] json = compactMapper.writeValueAsBytes(message);
+            byte[] gzip = gzipEnabled && json.length >= gzipMinBytes ? gzip(json) : null;
+            return new EncodedResponse(version, json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode ticket detail response", e);
+        }
+    }
+
+    /**
+     * Write the pre-encoded body; uses the gzip copy when the client accepts it.
+     */
+    public void write(EncodedResponse encoded, String acceptEncoding, HttpServletResponse response) throws IOException {
+        byte[] body = encoded.json();
+        if (encoded.gzip() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(acceptEncoding)) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = encoded.gzip();
+            }
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Accept-Encoding negotiation (RFC 9110 §12.5.3): gzip (or x-gzip) listed with q > 0, or not listed
+     * but covered by "*" with q > 0. "gzip;q=0" is an explicit refusal.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQ = null;
+        Double anyQ = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double q = qValue(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQ = gzipQ == null ? q : Math.max(gzipQ, q);
+            } else if (coding.equals("*")) {
+                anyQ = q;
+            }
+        }
+        if (gzipQ != null) {
+            return gzipQ > 0;
+        }
+        return anyQ != null && anyQ > 0;
+    }
+
+    private static double qValue(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0; // malformed weight: do not assume the client accepts it
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public record EncodedResponse(long version, byte[] json, byte[] gzip) {
+    }
+}
@@ -0,0 +1,232 @@
+package com.xxxx.ddd.controller.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xxxx.ddd.controller.model.enums.ResultCode;
+import com.xxxx.ddd.controller.model.enums.ResultUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control in front of every controller: each EndpointClass has a bounded in-flight budget and a bounded
+ * wait queue; a request that does not get a slot in time is answered 429 + Retry-After at once, instead of queueing
+ * in Tomcat until everyone times out together.
+ *
+ * On top of the class budgets, admission.max-total caps all classes together, and only priority classes (ORDER)
+ * may use the last admission.reserved-for-priority slots — browsing is shed before order completion.
+ *
+ * Metrics: http.admission.limit / in_flight / queued (gauges), http.admission.rejected{reason}, http.admission.wait.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@EnableConfigurationProperties(AdmissionProperties.class)
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final AdmissionProperties properties;
+    private final Map<EndpointClass, ClassBudget> budgets = new EnumMap<>(EndpointClass.class);
+    private final AtomicInteger inFlightTotal = new AtomicInteger();
+    private final byte[] rejectedBody;
+
+    public AdmissionControlFilter(AdmissionProperties properties, MeterRegistry meterRegistry) throws IOException {
+        this.properties = properties;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            budgets.put(endpointClass, new ClassBudget(endpointClass, properties.budget(endpointClass), meterRegistry));
+        }
+        Gauge.builder("http.admission.in_flight.total", inFlightTotal, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("http.admission.limit.total", properties, AdmissionProperties::getMaxTotal).register(meterRegistry);
+        this.rejectedBody = OBJECT_MAPPER.writeValueAsBytes(ResultUtil.error(ResultCode.RATE_LIMIT_ERROR));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        if (endpointClass == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        ClassBudget budget = budgets.get(endpointClass);
+
+        // 1. class budget, with a bounded wait — waiters hold no total slot
+        String rejection = budget.acquire();
+        if (rejection != null) {
+            reject(response, budget, rejection);
+            return;
+        }
+
+        // 2. total budget, checked once the class permit is held: non-priority classes stop short of the reserved slots
+        int totalLimit = endpointClass.isPriority()
+                ? properties.getMaxTotal()
+                : properties.getMaxTotal() - properties.getReservedForPriority();
+        if (!incrementIfBelow(inFlightTotal, totalLimit)) {
+            budget.release();
+            reject(response, budget, "total");
+            return;
+        }
+
+        Runnable release = releaseOnce(budget);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Mono / DeferredResult: the slot is held until the async response completes
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    private Runnable releaseOnce(ClassBudget budget) {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                budget.release();
+                inFlightTotal.decrementAndGet();
+            }
+        };
+    }
+
+    private void reject(HttpServletResponse response, ClassBudget budget, String reason) throws IOException {
+        budget.rejected(reason).increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(budget.config.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+    }
+
+    private static boolean incrementIfBelow(AtomicInteger counter, int limit) {
+        int current;
+        do {
+            current = counter.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private static final class ClassBudget {
+        private final AdmissionProperties.Budget config;
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final Counter rejectedQueueFull;
+        private final Counter rejectedTimeout;
+        private final Counter rejectedTotal;
+        private final Timer waitTimer;
+
+        ClassBudget(EndpointClass endpointClass, AdmissionProperties.Budget config, MeterRegistry meterRegistry) {
+            this.config = config;
+            this.permits = new Semaphore(config.getMaxInFlight());
+            String tag = endpointClass.name().toLowerCase();
+
+            Gauge.builder("http.admission.limit", config, AdmissionProperties.Budget::getMaxInFlight)
+                    .tag("class", tag).register(meterRegistry);
+            Gauge.builder("http.admission.in_flight", permits, p -> config.getMaxInFlight() - p.availablePermits())
+                    .tag("class", tag).register(meterRegistry);
+            Gauge.builder("http.admission.queued", queued, AtomicInteger::get)
+                    .tag("class", tag).register(meterRegistry);
+            this.rejectedQueueFull = rejectedCounter(meterRegistry, tag, "queue_full");
+            this.rejectedTimeout = rejectedCounter(meterRegistry, tag, "timeout");
+            this.rejectedTotal = rejectedCounter(meterRegistry, tag, "total");
+            this.waitTimer = Timer.builder("http.admission.wait").tag("class", tag).register(meterRegistry);
+        }
+
+        private static Counter rejectedCounter(MeterRegistry meterRegistry, String tag, String reason) {
+            return Counter.builder("http.admission.rejected").tag("class", tag).tag("reason", reason).register(meterRegistry);
+        }
+
+        /**
+         * @return null when admitted, otherwise the rejection reason
+         */
+        String acquire() {
+            if (permits.tryAcquire()) {
+                return null;
+            }
+            if (config.getMaxQueue() <= 0 || config.getMaxWaitMs() <= 0) {
+                return "queue_full";
+            }
+            if (queued.incrementAndGet() > config.getMaxQueue()) {
+                queued.decrementAndGet();
+                return "queue_full";
+            }
+            long start = System.nanoTime();
+            try {
+                return permits.tryAcquire(config.getMaxWaitMs(), TimeUnit.MILLISECONDS) ? null : "timeout";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "timeout";
+            } finally {
+                queued.decrementAndGet();
+                waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        Counter rejected(String reason) {
+            return switch (reason) {
+                case "queue_full" -> rejectedQueueFull;
+                case "timeout" -> rejectedTimeout;
+                default -> rejectedTotal;
+            };
+        }
+    }
+
+    private record ReleasingAsyncListener(Runnable release) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this); // re-register for a nested startAsync
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.xxxx.ddd.controller.filter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of AdmissionControlFilter (prefix "admission").
+ */
+@Data
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    // in-flight requests of all classes together
+    private int maxTotal = 400;
+    // part of maxTotal only priority classes (ORDER) may use
+    private int reservedForPriority = 100;
+
+    private Budget order = new Budget(150, 300, 500, 1);
+    private Budget detail = new Budget(300, 0, 0, 1);
+    private Budget other = new Budget(50, 0, 0, 2);
+
+    @Data
+    public static class Budget {
+        private int maxInFlight;
+        // requests allowed to wait for a slot; 0 = reject as soon as the class is full
+        private int maxQueue;
+        private long maxWaitMs;
+        // Retry-After header of the 429
+        private int retryAfterSeconds;
+
+        public Budget() {
+        }
+
+        public Budget(int maxInFlight, int maxQueue, long maxWaitMs, int retryAfterSeconds) {
+            this.maxInFlight = maxInFlight;
+            this.maxQueue = maxQueue;
+            this.maxWaitMs = maxWaitMs;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
+
+    public Budget budget(EndpointClass endpointClass) {
+        return switch (endpointClass) {
+            case ORDER -> order;
+            case DETAIL -> detail;
+            case OTHER -> other;
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.xxxx.ddd.controller.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Admission class of a request. Priority classes may use the part of the total budget reserved for them
+ * (admission.reserved-for-priority); the others are rejected first when the node is busy.
+ */
+public enum EndpointClass {
+    ORDER(true),   // POST /order/** — completes a purchase
+    DETAIL(false), // GET /ticket/**, /reactive/ticket/** — browsing
+    OTHER(false);
+
+    private final boolean priority;
+
+    EndpointClass(boolean priority) {
+        this.priority = priority;
+    }
+
+    public boolean isPriority() {
+        return priority;
+    }
+
+    /**
+     * @return null for requests that bypass admission control (actuator: probes and scrapes must always answer)
+     */
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/actuator")) {
+            return null;
+        }
+        if (path.startsWith("/order") && "POST".equals(request.getMethod())) {
+            return ORDER;
+        }
+        if (path.startsWith("/ticket") || path.startsWith("/reactive/ticket")) {
+            return DETAIL;
+        }
+        return OTHER;
+    }
+}
@@ -7,9 +7,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
 
 import java.security.SecureRandom;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/status")
@@ -18,8 +18,6 @@ public class FirstController {
     @Autowired
     private EventAppService eventAppService;
 
-    private RestTemplate restTemplate = new RestTemplate();
-
     @GetMapping("/abc")
     @RateLimiter(name = "backendA",fallbackMethod = "fallbackHello")
     public String getStatus() {
@@ -34,16 +32,27 @@ public class FirstController {
 
     private static final SecureRandom secureRandom = new SecureRandom();
 
+    // outbound call goes through the shared pooled client (OutboundHttpConfig), not a new connection per call
     @GetMapping("/circuit-breaker")
     @CircuitBreaker(name = "checkRandom", fallbackMethod = "fallbackCircuitBreaker")
     public String circuitBreaker() {
         int id = secureRandom.nextInt(20)+1;
-        String url = "https://fakestoreapi.com/products/" + id;
-
-        return restTemplate.getForObject(url, String.class);
+        return eventAppService.getExternalProduct(id);
     }
 
     public String fallbackCircuitBreaker(Throwable t) {
         return "Fallback response: " + t.getMessage();
     }
+
+    // async variant: resilience4j records the outcome when the future completes
+    @GetMapping("/circuit-breaker-async")
+    @CircuitBreaker(name = "checkRandom", fallbackMethod = "fallbackCircuitBreakerAsync")
+    public CompletableFuture<String> circuitBreakerAsync() {
+        int id = secureRandom.nextInt(20)+1;
+        return eventAppService.getExternalProductAsync(id);
+    }
+
+    public CompletableFuture<String> fallbackCircuitBreakerAsync(Throwable t) {
+        return CompletableFuture.completedFuture("Fallback response: " + t.getMessage());
+    }
 }
@@ -0,0 +1,44 @@
+package com.xxxx.ddd.controller.http;
+
+import com.xxxx.ddd.application.service.ticket.ReactiveTicketDetailAppService;
+import com.xxxx.ddd.application.service.ticket.TicketDetailAppService;
+import com.xxxx.ddd.controller.model.enums.ResultCode;
+import com.xxxx.ddd.controller.model.enums.ResultUtil;
+import com.xxxx.ddd.controller.model.vo.ResultMessage;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive variant of TicketDetailController.
+ * Spring MVC handles the Mono with servlet async: the request thread is released while Redis I/O is pending.
+ */
+@RestController
+@RequestMapping("/reactive/ticket")
+@Slf4j
+public class ReactiveTicketDetailController {
+
+    @Autowired
+    private ReactiveTicketDetailAppService reactiveTicketDetailAppService;
+
+    @Autowired
+    private TicketDetailAppService ticketDetailAppService;
+
+    @GetMapping("/{ticketId}/detail/{detailId}")
+    public Mono<ResultMessage<TicketDetail>> getTicketDetail(
+            @PathVariable("ticketId") Long ticketId,
+            @PathVariable("detailId") Long detailId
+    ) {
+        if (ticketDetailAppService.isSoldOut(detailId)) {
+            return Mono.just(ResultUtil.error(ResultCode.TICKET_SOLD_OUT));
+        }
+        return reactiveTicketDetailAppService.getTicketDetailById(detailId)
+                .map(ResultUtil::data)
+                .defaultIfEmpty(ResultUtil.data(null));
+    }
+}
@@ -1,31 +1,179 @@
 package com.xxxx.ddd.controller.http;
 
+import com.xxxx.ddd.application.model.TicketItemCursor;
+import com.xxxx.ddd.application.model.TicketItemPage;
+import com.xxxx.ddd.application.model.TicketPage;
+import com.xxxx.ddd.application.model.TicketSearchResult;
+import com.xxxx.ddd.application.model.enums.TicketCacheStrategy;
 import com.xxxx.ddd.application.service.ticket.TicketDetailAppService;
+import com.xxxx.ddd.application.service.ticket.TicketPageAppService;
+import com.xxxx.ddd.application.service.ticket.TicketSearchAppService;
+import com.xxxx.ddd.controller.cache.TicketDetailResponseCache;
+import com.xxxx.ddd.controller.cache.TicketDetailResponseCache.EncodedResponse;
+import com.xxxx.ddd.controller.model.enums.ResultCode;
 import com.xxxx.ddd.controller.model.enums.ResultUtil;
 import com.xxxx.ddd.controller.model.vo.ResultMessage;
 import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.Date;
 
 @RestController
 @RequestMapping("/ticket")
 @Slf4j
+@Observed(name = "ticket.layer", lowCardinalityKeyValues = {"layer", "controller"}) // per-layer latency, see docs/11_layer-latency.md
 public class TicketDetailController {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int MAX_QUERY_LENGTH = 100;
+
     // CALL Service Application
     @Autowired
     private TicketDetailAppService ticketDetailAppService;
 
+    @Autowired
+    private TicketDetailResponseCache ticketDetailResponseCache;
+
+    @Autowired
+    private TicketPageAppService ticketPageAppService;
+
+    @Autowired
+    private TicketSearchAppService ticketSearchAppService;
+
+    /**
+     * Supports conditional GET: ETag = W/"{detailId}-{version}" (ticket_item.version, +1 per update).
+     * No Last-Modified: updated_at has second precision, two writes in one second would share it.
+     * The body is written from TicketDetailResponseCache (pre-encoded JSON / gzip), so nothing is returned:
+     * either 304 (checkNotModified) or the response was written directly.
+     */
     @GetMapping("/{ticketId}/detail/{detailId}")
-    public ResultMessage<TicketDetail> getTicketDetail(
+    public void getTicketDetail(
             @PathVariable("ticketId") Long ticketId,
-            @PathVariable("detailId") Long detailId
+            @PathVariable("detailId") Long detailId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest,
+            HttpServletResponse response
+    ) throws IOException {
+        log.debug("ticket detail: ticketId={}, detailId={}", ticketId, detailId);
+
+        // 0. sold out on this node — rejected before any cache or Redis lookup
+        if (ticketDetailAppService.isSoldOut(detailId)) {
+            ticketDetailResponseCache.write(ticketDetailResponseCache.encode(0L, ResultUtil.error(ResultCode.TICKET_SOLD_OUT)), acceptEncoding, response);
+            return;
+        }
+
+        // 1. version known by this node (dropped cluster-wide on every change), else load the entity for it
+        Long version = ticketDetailAppService.getTicketDetailVersion(detailId);
+        TicketDetail ticketDetail = null;
+        if (version == null) {
+            ticketDetail = ticketDetailAppService.getTicketDetailById(detailId);
+            if (ticketDetail == null) {
+                ticketDetailResponseCache.write(ticketDetailResponseCache.encode(0L, ResultUtil.data(null)), acceptEncoding, response);
+                return;
+            }
+            version = ticketDetail.getVersion();
+        }
+
+        // 2. one conditional check
+        if (webRequest.checkNotModified(buildETag(detailId, version))) {
+            return;
+        }
+
+        // 3. pre-encoded body for that version, or encode the entity (loaded now if step 1 did not)
+        EncodedResponse encoded = ticketDetailResponseCache.get(detailId, version);
+        if (encoded == null) {
+            if (ticketDetail == null) {
+                ticketDetail = ticketDetailAppService.getTicketDetailById(detailId);
+            }
+            if (ticketDetail == null) {
+                encoded = ticketDetailResponseCache.encode(0L, ResultUtil.data(null));
+            } else {
+                encoded = ticketDetailResponseCache.put(detailId, ticketDetail.getVersion(), ResultUtil.data(ticketDetail));
+            }
+        }
+        ticketDetailResponseCache.write(encoded, acceptEncoding, response);
+    }
+
+    /**
+     * Plain read through one cache strategy, without conditional GET or the response byte cache.
+     * Used to benchmark the strategies against each other (docs/6_ticket-cache-strategy.md).
+     */
+    @GetMapping("/{ticketId}/detail/{detailId}/strategy/{strategy}")
+    public ResultMessage<TicketDetail> getTicketDetailWithStrategy(
+            @PathVariable("ticketId") Long ticketId,
+            @PathVariable("detailId") Long detailId,
+            @PathVariable("strategy") TicketCacheStrategy strategy
+    ) {
+        return ResultUtil.data(ticketDetailAppService.getTicketDetailById(detailId, strategy));
+    }
+
+    /**
+     * Event page: ticket + all its items + live stock + sale state, fetched in parallel.
+     * Sections that timed out are listed in result.missing; the rest is still returned.
+     */
+    @GetMapping("/{ticketId}/page")
+    public ResultMessage<TicketPage> getTicketPage(@PathVariable("ticketId") Long ticketId) {
+        TicketPage page = ticketPageAppService.getTicketPage(ticketId);
+        if (page == null) {
+            return ResultUtil.error(ResultCode.TICKET_NOT_FOUND);
+        }
+        return ResultUtil.data(page);
+    }
+
+    /**
+     * Keyset listing of ticket items ordered by (saleStartTime, id), filtered by status and sale start in
+     * [saleFrom, saleTo). Pass result.nextCursor back as ?cursor= for the next page; the cursor carries the filters.
+     */
+    @GetMapping("/items")
+    public ResultMessage<TicketItemPage> listTicketItems(
+            @RequestParam(value = "status", required = false) Integer status,
+            @RequestParam(value = "saleFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date saleFrom,
+            @RequestParam(value = "saleTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date saleTo,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            return ResultUtil.error(ResultCode.PARAMS_ERROR);
+        }
+        TicketItemCursor position = cursor != null
+                ? TicketItemCursor.decode(cursor)
+                : TicketItemCursor.first(status, saleFrom == null ? null : saleFrom.getTime(), saleTo == null ? null : saleTo.getTime());
+        if (position == null) {
+            return ResultUtil.error(ResultCode.PARAMS_ERROR);
+        }
+        return ResultUtil.data(ticketDetailAppService.listTicketDetails(position, size));
+    }
+
+    /**
+     * Full-text search over ticket and ticket item names/descriptions, served from the in-process index.
+     * Diacritic-insensitive ("ve tet" finds "Vé Tết"); all words must match, the last one as a prefix.
+     */
+    @GetMapping("/search")
+    public ResultMessage<TicketSearchResult> search(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
     ) {
-        log.info("MEMBER TIPS GO");
-        log.info(" ticketId:{}, detailId:{}", ticketId, detailId);
-        return ResultUtil.data(ticketDetailAppService.getTicketDetailById(detailId));
+        if (query.isBlank() || query.length() > MAX_QUERY_LENGTH || limit <= 0 || limit > MAX_SEARCH_LIMIT) {
+            return ResultUtil.error(ResultCode.PARAMS_ERROR);
+        }
+        return ResultUtil.data(ticketSearchAppService.search(query, limit));
+    }
+
+    // weak ETag: the body also carries ResultMessage.timestamp, so it is not byte-identical between responses
+    private String buildETag(Long detailId, long version) {
+        return "W/\"" + detailId + "-" + version + "\"";
     }
 }
@@ -1,4 +1,45 @@
 package com.xxxx.ddd.controller.http;
 
+import com.xxxx.ddd.application.model.TicketOrderPlacement;
+import com.xxxx.ddd.application.service.ticket.TicketOrderAppService;
+import com.xxxx.ddd.controller.model.enums.ResultCode;
+import com.xxxx.ddd.controller.model.enums.ResultUtil;
+import com.xxxx.ddd.controller.model.vo.ResultMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/order")
+@Slf4j
 public class TicketOrderController {
+
+    @Autowired
+    private TicketOrderAppService ticketOrderAppService;
+
+    @PostMapping("/{detailId}")
+    public ResultMessage<Long> placeOrder(
+            @PathVariable("detailId") Long detailId,
+            @RequestParam("userId") Long userId,
+            @RequestParam(value = "quantity", defaultValue = "1") int quantity
+    ) {
+        if (quantity <= 0) {
+            return ResultUtil.error(ResultCode.PARAMS_ERROR);
+        }
+
+        TicketOrderPlacement placement = ticketOrderAppService.placeOrder(detailId, userId, quantity);
+        return switch (placement.result()) {
+            case SUCCESS -> ResultUtil.data(placement.orderId());
+            case SOLD_OUT -> ResultUtil.error(ResultCode.TICKET_SOLD_OUT);
+            case NOT_ENOUGH_STOCK -> ResultUtil.error(ResultCode.TICKET_STOCK_NOT_ENOUGH);
+            case LIMIT_EXCEEDED -> ResultUtil.error(ResultCode.TICKET_USER_LIMIT_EXCEEDED);
+            case NOT_FOUND -> ResultUtil.error(ResultCode.TICKET_NOT_FOUND);
+            case NOT_ON_SALE -> ResultUtil.error(ResultCode.TICKET_NOT_ON_SALE);
+            case BUSY -> ResultUtil.error(ResultCode.ERROR);
+        };
+    }
 }
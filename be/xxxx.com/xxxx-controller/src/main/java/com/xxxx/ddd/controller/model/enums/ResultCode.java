@@ -125,6 +125,15 @@ public enum ResultCode {
     PRODUCT_PARAMETER_SAVE_ERROR(12001, "Thêm tham số thất bại"),
     PRODUCT_PARAMETER_UPDATE_ERROR(12002, "Chỉnh sửa tham số thất bại"),
 
+    /**
+     * Vé
+     */
+    TICKET_NOT_FOUND(60001, "Vé không tồn tại"),
+    TICKET_SOLD_OUT(60002, "Vé đã bán hết"),
+    TICKET_STOCK_NOT_ENOUGH(60003, "Số lượng vé còn lại không đủ"),
+    TICKET_USER_LIMIT_EXCEEDED(60004, "Vượt quá số lượng vé tối đa cho mỗi người dùng"),
+    TICKET_NOT_ON_SALE(60005, "Vé chưa mở bán hoặc đã hết thời gian bán"),
+
     /**
      * Ngoại lệ hệ thống
      */
@@ -1,5 +1,6 @@
 package com.xxxx.ddd.domain.model.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
@@ -19,6 +20,7 @@ public class Ticket {
     private Long id;
 
     private String name;
+    @Column(name = "`desc`") // reserved word in MySQL
     private String description;
     private Date startTime;
     private Date endTime;
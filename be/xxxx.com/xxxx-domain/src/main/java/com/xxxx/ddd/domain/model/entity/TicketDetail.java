@@ -1,8 +1,10 @@
 package com.xxxx.ddd.domain.model.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -31,6 +33,11 @@ public class TicketDetail {
     private Date saleEndTime;
     private int status;
     private Long activityId;
+    // +1 on every update (Hibernate for entity updates, the JPQL bulk updates by hand): ETag / cache version
+    @Version
+    private long version;
+    // maintained by MySQL (ON UPDATE CURRENT_TIMESTAMP); never written back, or the loaded value would pin it
+    @Column(insertable = false, updatable = false)
     private Date updatedAt;
     private Date createdAt;
 }
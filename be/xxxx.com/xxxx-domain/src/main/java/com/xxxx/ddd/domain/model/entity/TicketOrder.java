@@ -0,0 +1,31 @@
+package com.xxxx.ddd.domain.model.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+import java.util.Date;
+
+@Data
+@Accessors(chain = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "ticket_order")
+public class TicketOrder {
+
+    @Id
+    private Long id; // snowflake id, assigned before persisting (no AUTO_INCREMENT round trip)
+    private Long userId;
+    private Long ticketItemId;
+    private Long activityId;
+    private int quantity;
+    private Long amount;
+    private int status;
+    private Date updatedAt;
+    private Date createdAt;
+}
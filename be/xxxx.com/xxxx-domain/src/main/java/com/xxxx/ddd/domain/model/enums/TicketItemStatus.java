@@ -0,0 +1,34 @@
+package com.xxxx.ddd.domain.model.enums;
+
+import java.util.Date;
+
+/**
+ * ticket_item.status
+ */
+public enum TicketItemStatus {
+    INACTIVE(0),  // before sale_start_time
+    ACTIVE(1),    // sale_start_time <= now < sale_end_time
+    ENDED(2);     // after sale_end_time
+
+    private final int code;
+
+    TicketItemStatus(int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    // status the sale window implies at the given instant
+    public static TicketItemStatus of(Date saleStartTime, Date saleEndTime, long nowMillis) {
+        return of(saleStartTime.getTime(), saleEndTime.getTime(), nowMillis);
+    }
+
+    public static TicketItemStatus of(long saleStartMillis, long saleEndMillis, long nowMillis) {
+        if (nowMillis < saleStartMillis) {
+            return INACTIVE;
+        }
+        return nowMillis < saleEndMillis ? ACTIVE : ENDED;
+    }
+}
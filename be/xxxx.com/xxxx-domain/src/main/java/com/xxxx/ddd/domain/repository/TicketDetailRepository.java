@@ -2,8 +2,39 @@ package com.xxxx.ddd.domain.repository;
 
 import com.xxxx.ddd.domain.model.entity.TicketDetail;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface TicketDetailRepository {
     Optional<TicketDetail> findById(Long id);
+
+    // all items of one ticket (activity)
+    List<TicketDetail> findByActivityId(Long activityId);
+
+    // same, cut off by the database after timeoutMillis (millisecond precision, unlike the JDBC query timeout)
+    List<TicketDetail> findByActivityId(Long activityId, long timeoutMillis);
+
+    /**
+     * Keyset page ordered by (saleStartTime, id): items with saleStartTime in [from, to), optionally one status,
+     * strictly after (afterStart, afterId). Cost does not depend on how deep the page is.
+     */
+    List<TicketDetail> findPage(Integer status, Date from, Date to, Date afterStart, long afterId, int limit);
+
+    // items whose sale starts or ends in [from, to)
+    List<TicketDetail> findSaleWindowsBetween(Date from, Date to);
+
+    // items whose status has not followed their window yet: inactive past the start, or active past the end
+    List<TicketDetail> findMissedSaleTransitions(Date now);
+
+    // returns the number of rows changed (0 if already in that status)
+    int updateStatus(Long id, int status);
+
+    // keyset over (updatedAt, id), strictly after (afterUpdated, afterId); a full scan starts at (epoch, 0)
+    List<TicketDetail> findUpdatedAfter(Date afterUpdated, long afterId, int limit);
+
+    // id -> version (ticket_item.version); ids that no longer exist are absent
+    Map<Long, Long> findVersions(Collection<Long> ids);
 }
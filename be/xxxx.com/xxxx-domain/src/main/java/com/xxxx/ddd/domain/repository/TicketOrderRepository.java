@@ -0,0 +1,16 @@
+package com.xxxx.ddd.domain.repository;
+
+import com.xxxx.ddd.domain.model.entity.TicketOrder;
+
+import java.util.List;
+
+public interface TicketOrderRepository {
+    // insert only: ids are already assigned
+    void insertAll(List<TicketOrder> ticketOrders);
+
+    // sum(quantity) of the item's orders that are not cancelled
+    long sumSoldQuantity(Long ticketItemId);
+
+    // same, restricted to orders whose id was generated by workerId at or after sinceMillis
+    long sumSoldQuantityByWorkerSince(Long ticketItemId, long workerId, long sinceMillis);
+}
@@ -0,0 +1,17 @@
+package com.xxxx.ddd.domain.repository;
+
+import com.xxxx.ddd.domain.model.entity.Ticket;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+public interface TicketRepository {
+    Optional<Ticket> findById(Long id);
+
+    // same, cut off by the database after timeoutMillis (millisecond precision, unlike the JDBC query timeout)
+    Optional<Ticket> findById(Long id, long timeoutMillis);
+
+    // keyset over (updatedAt, id), strictly after (afterUpdated, afterId); a full scan starts at (epoch, 0)
+    List<Ticket> findUpdatedAfter(Date afterUpdated, long afterId, int limit);
+}
@@ -2,6 +2,27 @@ package com.xxxx.ddd.domain.service;
 
 import com.xxxx.ddd.domain.model.entity.TicketDetail;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
 public interface TicketDetailDomainService {
     TicketDetail getTicketDetailById(Long ticketId);
+
+    List<TicketDetail> getTicketDetailsByActivityId(Long activityId);
+
+    List<TicketDetail> getTicketDetailsByActivityId(Long activityId, long timeoutMillis);
+
+    List<TicketDetail> getTicketDetailPage(Integer status, Date from, Date to, Date afterStart, long afterId, int limit);
+
+    List<TicketDetail> getSaleWindowsBetween(Date from, Date to);
+
+    List<TicketDetail> getMissedSaleTransitions(Date now);
+
+    boolean updateStatus(Long ticketId, int status);
+
+    List<TicketDetail> getTicketDetailsUpdatedAfter(Date afterUpdated, long afterId, int limit);
+
+    Map<Long, Long> getVersions(Collection<Long> ticketIds);
 }
@@ -0,0 +1,14 @@
+package com.xxxx.ddd.domain.service;
+
+import com.xxxx.ddd.domain.model.entity.Ticket;
+
+import java.util.Date;
+import java.util.List;
+
+public interface TicketDomainService {
+    Ticket getTicketById(Long ticketId);
+
+    Ticket getTicketById(Long ticketId, long timeoutMillis);
+
+    List<Ticket> getTicketsUpdatedAfter(Date afterUpdated, long afterId, int limit);
+}
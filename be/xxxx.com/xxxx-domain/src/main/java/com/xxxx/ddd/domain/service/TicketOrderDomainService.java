@@ -0,0 +1,13 @@
+package com.xxxx.ddd.domain.service;
+
+import com.xxxx.ddd.domain.model.entity.TicketOrder;
+
+import java.util.List;
+
+public interface TicketOrderDomainService {
+    void insertOrders(List<TicketOrder> ticketOrders);
+
+    long getSoldQuantity(Long ticketItemId);
+
+    long getSoldQuantityByWorkerSince(Long ticketItemId, long workerId, long sinceMillis);
+}
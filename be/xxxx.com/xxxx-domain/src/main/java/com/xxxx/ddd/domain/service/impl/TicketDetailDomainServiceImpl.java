@@ -3,12 +3,19 @@ package com.xxxx.ddd.domain.service.impl;
 import com.xxxx.ddd.domain.model.entity.TicketDetail;
 import com.xxxx.ddd.domain.repository.TicketDetailRepository;
 import com.xxxx.ddd.domain.service.TicketDetailDomainService;
+import io.micrometer.observation.annotation.Observed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @Slf4j
+@Observed(name = "ticket.layer", lowCardinalityKeyValues = {"layer", "domain"})
 public class TicketDetailDomainServiceImpl implements TicketDetailDomainService {
     // Call repository in domain
     @Autowired
@@ -16,7 +23,48 @@ public class TicketDetailDomainServiceImpl implements TicketDetailDomainService
 
     @Override
     public TicketDetail getTicketDetailById(Long ticketId) {
-        log.info("Implement Domain : {}", ticketId);
+        log.debug("Implement Domain : {}", ticketId);
         return ticketDetailRepository.findById(ticketId).orElse(null);
     }
+
+    @Override
+    public List<TicketDetail> getTicketDetailsByActivityId(Long activityId) {
+        return ticketDetailRepository.findByActivityId(activityId);
+    }
+
+    @Override
+    public List<TicketDetail> getTicketDetailsByActivityId(Long activityId, long timeoutMillis) {
+        return ticketDetailRepository.findByActivityId(activityId, timeoutMillis);
+    }
+
+    @Override
+    public List<TicketDetail> getTicketDetailPage(Integer status, Date from, Date to, Date afterStart, long afterId, int limit) {
+        return ticketDetailRepository.findPage(status, from, to, afterStart, afterId, limit);
+    }
+
+    @Override
+    public List<TicketDetail> getSaleWindowsBetween(Date from, Date to) {
+        return ticketDetailRepository.findSaleWindowsBetween(from, to);
+    }
+
+    @Override
+    public List<TicketDetail> getMissedSaleTransitions(Date now) {
+        return ticketDetailRepository.findMissedSaleTransitions(now);
+    }
+
+    @Override
+    public boolean updateStatus(Long ticketId, int status) {
+        log.info("Update status : {} -> {}", ticketId, status);
+        return ticketDetailRepository.updateStatus(ticketId, status) > 0;
+    }
+
+    @Override
+    public List<TicketDetail> getTicketDetailsUpdatedAfter(Date afterUpdated, long afterId, int limit) {
+        return ticketDetailRepository.findUpdatedAfter(afterUpdated, afterId, limit);
+    }
+
+    @Override
+    public Map<Long, Long> getVersions(Collection<Long> ticketIds) {
+        return ticketDetailRepository.findVersions(ticketIds);
+    }
 }
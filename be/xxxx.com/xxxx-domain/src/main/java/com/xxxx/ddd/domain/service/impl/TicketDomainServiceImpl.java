@@ -0,0 +1,33 @@
+package com.xxxx.ddd.domain.service.impl;
+
+import com.xxxx.ddd.domain.model.entity.Ticket;
+import com.xxxx.ddd.domain.repository.TicketRepository;
+import com.xxxx.ddd.domain.service.TicketDomainService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.List;
+
+@Service
+@Slf4j
+public class TicketDomainServiceImpl implements TicketDomainService {
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Override
+    public Ticket getTicketById(Long ticketId) {
+        return ticketRepository.findById(ticketId).orElse(null);
+    }
+
+    @Override
+    public Ticket getTicketById(Long ticketId, long timeoutMillis) {
+        return ticketRepository.findById(ticketId, timeoutMillis).orElse(null);
+    }
+
+    @Override
+    public List<Ticket> getTicketsUpdatedAfter(Date afterUpdated, long afterId, int limit) {
+        return ticketRepository.findUpdatedAfter(afterUpdated, afterId, limit);
+    }
+}
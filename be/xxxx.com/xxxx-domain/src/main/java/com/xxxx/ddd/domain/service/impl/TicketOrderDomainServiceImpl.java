@@ -0,0 +1,33 @@
+package com.xxxx.ddd.domain.service.impl;
+
+import com.xxxx.ddd.domain.model.entity.TicketOrder;
+import com.xxxx.ddd.domain.repository.TicketOrderRepository;
+import com.xxxx.ddd.domain.service.TicketOrderDomainService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Slf4j
+public class TicketOrderDomainServiceImpl implements TicketOrderDomainService {
+    @Autowired
+    private TicketOrderRepository ticketOrderRepository;
+
+    @Override
+    public void insertOrders(List<TicketOrder> ticketOrders) {
+        log.info("Insert orders : {}", ticketOrders.size());
+        ticketOrderRepository.insertAll(ticketOrders);
+    }
+
+    @Override
+    public long getSoldQuantity(Long ticketItemId) {
+        return ticketOrderRepository.sumSoldQuantity(ticketItemId);
+    }
+
+    @Override
+    public long getSoldQuantityByWorkerSince(Long ticketItemId, long workerId, long sinceMillis) {
+        return ticketOrderRepository.sumSoldQuantityByWorkerSince(ticketItemId, workerId, sinceMillis);
+    }
+}
@@ -0,0 +1,14 @@
+package com.xxxx.ddd.infrastructure.cache.invalidation;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Cluster-wide "drop your local copies of this ticket item" notifications. The publisher receives its own message.
+ */
+public interface CacheInvalidationTopic {
+
+    void publish(long ticketItemId);
+
+    // called on a Redisson thread, or on the publishing thread if the broadcast failed
+    void subscribe(LongConsumer handler);
+}
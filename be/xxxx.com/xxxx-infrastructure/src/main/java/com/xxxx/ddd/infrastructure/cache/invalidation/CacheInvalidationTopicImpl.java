@@ -0,0 +1,63 @@
+package com.xxxx.ddd.infrastructure.cache.invalidation;
+
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Messages are ticket item ids (plain longs) on PRO_TICKET:DETAIL:INVALIDATE.
+ * If Redis is unreachable the invalidation is applied on this node only; the other nodes keep their copies
+ * until the local TTL (10 minutes).
+ */
+@Service
+@Slf4j
+public class CacheInvalidationTopicImpl implements CacheInvalidationTopic {
+
+    private static final String TOPIC = "PRO_TICKET:DETAIL:INVALIDATE";
+
+    @Resource
+    private RedissonClient redissonClient;
+
+    private volatile LongConsumer handler;
+
+    @Override
+    public void publish(long ticketItemId) {
+        try {
+            getTopic().publishAsync(ticketItemId).whenComplete((receivers, e) -> {
+                if (e != null) {
+                    applyLocally(ticketItemId, e);
+                }
+            });
+        } catch (Exception e) {
+            applyLocally(ticketItemId, e);
+        }
+    }
+
+    private void applyLocally(long ticketItemId, Throwable cause) {
+        log.warn("Cache invalidation broadcast failed for {}, applying locally: {}", ticketItemId, cause.getMessage());
+        LongConsumer local = handler;
+        if (local != null) {
+            local.accept(ticketItemId);
+        }
+    }
+
+    @Override
+    public void subscribe(LongConsumer handler) {
+        this.handler = handler;
+        try {
+            getTopic().addListener(Long.class, (channel, message) -> handler.accept(message));
+            log.info("Subscribed to cache invalidation topic {}", TOPIC);
+        } catch (Exception e) {
+            log.warn("Cache invalidation topic subscription failed, local copies expire by TTL only: {}", e.getMessage());
+        }
+    }
+
+    private RTopic getTopic() {
+        return redissonClient.getTopic(TOPIC, LongCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,70 @@
+package com.xxxx.ddd.infrastructure.cache.local;
+
+/**
+ * Count-min sketch with 4-bit counters (16 per long, 4 rows), the TinyLFU popularity estimate
+ * used by LongKeyCache admission. Counters saturate at 15 and are all halved every
+ * 10 * maximumSize increments so old popularity fades.
+ *
+ * Updates are plain (racy) writes: a lost increment only makes the estimate slightly lower.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(long maximumSize) {
+        int length = Integer.highestOneBit((int) Math.min(Math.max(maximumSize, 16), 1 << 30) - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+    }
+
+    int frequency(int hash) {
+        int frequency = 15;
+        for (int row = 0; row < 4; row++) {
+            long rowHash = rowHash(hash, row);
+            int index = (int) rowHash & tableMask;
+            int offset = ((int) (rowHash >>> 48) & 15) << 2;
+            frequency = Math.min(frequency, (int) ((table[index] >>> offset) & 0xfL));
+        }
+        return frequency;
+    }
+
+    void increment(int hash) {
+        boolean added = false;
+        for (int row = 0; row < 4; row++) {
+            long rowHash = rowHash(hash, row);
+            int index = (int) rowHash & tableMask;
+            int offset = ((int) (rowHash >>> 48) & 15) << 2;
+            long word = table[index];
+            if (((word >>> offset) & 0xfL) != 0xfL) {
+                table[index] = word + (1L << offset);
+                added = true;
+            }
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    private synchronized void reset() {
+        if (size < sampleSize) {
+            return;
+        }
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = size >>> 1;
+    }
+
+    private static long rowHash(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        return h ^ (h >>> 32);
+    }
+}
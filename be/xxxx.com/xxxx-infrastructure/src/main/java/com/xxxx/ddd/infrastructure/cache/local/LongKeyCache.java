@@ -0,0 +1,375 @@
+package com.xxxx.ddd.infrastructure.cache.local;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Size-bounded, expire-after-write cache keyed by a primitive long — no boxed key, no entry object.
+ *
+ * - Segments (power of two, ~2 per core) of open-addressing tables: long[] keys, Object[] values, long[] write times,
+ *   sized once at 2x the segment's share of maximumSize, so there is no rehash.
+ * - Reads are lock-free (StampedLock optimistic read + validate); writes lock one segment.
+ * - W-TinyLFU: a new key always enters the admission window (FIFO, 1% of each segment, min 1 entry), so a burst
+ *   of new hot keys is cached before it has built up any frequency. A key pushed out of the window joins the main
+ *   area if there is room; otherwise it competes with a victim sampled from the main area (8 entries: an expired
+ *   one first, else the least frequent) and only replaces it if its FrequencySketch estimate is higher (plus a
+ *   1/128 random admit so a flood of one-hit keys cannot pin the table). The loser is dropped.
+ * - Frequency counts reads: getIfPresent increments the sketch, put does not, so a miss followed by its
+ *   fill is one access.
+ *
+ * Null values are not stored (null means "empty slot").
+ */
+public class LongKeyCache<V> {
+
+    private static final int SAMPLE_SIZE = 8;
+
+    private final Segment<V>[] segments;
+    private final int segmentMask;
+    private final FrequencySketch sketch;
+    private final long expireAfterWriteNanos;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public LongKeyCache(long maximumSize, long expireAfterWrite, TimeUnit unit) {
+        this(maximumSize, expireAfterWrite, unit, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    public LongKeyCache(long maximumSize, long expireAfterWrite, TimeUnit unit, int concurrency) {
+        int segmentCount = Integer.highestOneBit(Math.max(1, concurrency) * 2 - 1);
+        int perSegment = (int) Math.max(1, (maximumSize + segmentCount - 1) / segmentCount);
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(perSegment);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.sketch = new FrequencySketch(maximumSize);
+        this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+    }
+
+    public V getIfPresent(long key) {
+        long hash = mix(key);
+        sketch.increment((int) hash);
+        V value = segmentFor(hash).get(key, (int) hash, System.nanoTime(), expireAfterWriteNanos);
+        (value == null ? missCount : hitCount).increment();
+        return value;
+    }
+
+    public void put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        long hash = mix(key);
+        long now = System.nanoTime();
+        segmentFor(hash).put(key, (int) hash, value, now, now, expireAfterWriteNanos, sketch);
+    }
+
+    /**
+     * Put an entry that was written {@code age} ago (e.g. restored from a snapshot): it expires when the original
+     * write would have. Already expired entries are ignored.
+     */
+    public void put(long key, V value, long age, TimeUnit unit) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        long ageNanos = Math.max(0, unit.toNanos(age));
+        if (ageNanos >= expireAfterWriteNanos) {
+            return;
+        }
+        long hash = mix(key);
+        long now = System.nanoTime();
+        segmentFor(hash).put(key, (int) hash, value, now, now - ageNanos, expireAfterWriteNanos, sketch);
+    }
+
+    public void invalidate(long key) {
+        long hash = mix(key);
+        segmentFor(hash).remove(key, (int) hash);
+    }
+
+    public void invalidateAll() {
+        for (Segment<V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Visit every live (not expired) entry with its age. Each segment is read under its read lock,
+     * so the visitor must not write to this cache.
+     */
+    public void forEach(EntryVisitor<V> visitor) {
+        long now = System.nanoTime();
+        for (Segment<V> segment : segments) {
+            segment.forEach(visitor, now, expireAfterWriteNanos);
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public double hitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    @FunctionalInterface
+    public interface EntryVisitor<V> {
+        void visit(long key, V value, long ageNanos);
+    }
+
+    private Segment<V> segmentFor(long hash) {
+        return segments[(int) (hash >>> 40) & segmentMask];
+    }
+
+    // low 32 bits: slot / sketch hash; bits 40+: segment — independent so a segment's keys spread over its table
+    private static long mix(long key) {
+        long z = key * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Segment<V> {
+        private final StampedLock lock = new StampedLock();
+        private final long[] keys;
+        private final Object[] values;
+        private final long[] writeTimes;
+        private final int mask;
+        private final int maxSize;
+        private volatile int size;
+
+        // admission window: slot flags + FIFO of keys (may still hold keys removed since, skipped when polled)
+        private final boolean[] inWindow;
+        private final long[] windowQueue;
+        private final int windowMax;
+        private int windowHead;
+        private int windowLength;
+        private int windowSize;
+
+        Segment(int maxSize) {
+            int capacity = Integer.highestOneBit(Math.max(2, maxSize) * 2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.writeTimes = new long[capacity];
+            this.mask = capacity - 1;
+            this.maxSize = maxSize;
+            this.inWindow = new boolean[capacity];
+            this.windowMax = Math.max(1, maxSize / 100);
+            this.windowQueue = new long[windowMax * 2];
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(long key, int hash, long now, long ttl) {
+            long stamp = lock.tryOptimisticRead();
+            Object value = null;
+            long writeTime = 0;
+            int index = indexOf(key, hash);
+            if (index >= 0) {
+                value = values[index];
+                writeTime = writeTimes[index];
+            }
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    index = indexOf(key, hash);
+                    value = index < 0 ? null : values[index];
+                    writeTime = index < 0 ? 0 : writeTimes[index];
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            if (value == null || now - writeTime >= ttl) {
+                return null;
+            }
+            return (V) value;
+        }
+
+        void put(long key, int hash, V value, long now, long writeTime, long ttl, FrequencySketch sketch) {
+            long stamp = lock.writeLock();
+            try {
+                int index = indexOf(key, hash);
+                if (index >= 0) {
+                    values[index] = value;
+                    writeTimes[index] = writeTime;
+                    return;
+                }
+
+                if (windowLength == windowQueue.length) {
+                    leaveWindow(now, ttl, sketch); // queue full of removed keys: make room
+                }
+                inWindow[insert(key, hash, value, writeTime)] = true;
+                windowSize++;
+                windowQueue[(windowHead + windowLength) % windowQueue.length] = key;
+                windowLength++;
+                while (windowSize > windowMax) {
+                    leaveWindow(now, ttl, sketch);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void remove(long key, int hash) {
+            long stamp = lock.writeLock();
+            try {
+                int index = indexOf(key, hash);
+                if (index >= 0) {
+                    delete(index);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void forEach(EntryVisitor<V> visitor, long now, long ttl) {
+            long stamp = lock.readLock();
+            try {
+                for (int i = 0; i <= mask; i++) {
+                    Object value = values[i];
+                    if (value != null && now - writeTimes[i] < ttl) {
+                        visitor.visit(keys[i], (V) value, now - writeTimes[i]);
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void clear() {
+            long stamp = lock.writeLock();
+            try {
+                Arrays.fill(values, null);
+                Arrays.fill(inWindow, false);
+                size = 0;
+                windowSize = 0;
+                windowHead = 0;
+                windowLength = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        // bounded probe: under an optimistic read the table may be mid-update
+        private int indexOf(long key, int hash) {
+            int index = hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                if (values[index] == null) {
+                    return -1;
+                }
+                if (keys[index] == key) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * Oldest window entry leaves the window: kept in the main area if there is room, otherwise it competes with
+         * a sampled main-area victim (TinyLFU) and the loser is deleted.
+         */
+        private void leaveWindow(long now, long ttl, FrequencySketch sketch) {
+            while (windowLength > 0) {
+                long key = windowQueue[windowHead];
+                windowHead = (windowHead + 1) % windowQueue.length;
+                windowLength--;
+                int candidate = indexOf(key, (int) mix(key));
+                if (candidate < 0 || !inWindow[candidate]) {
+                    continue; // removed (or already left) since it was queued
+                }
+                inWindow[candidate] = false;
+                windowSize--;
+                if (now - writeTimes[candidate] >= ttl) {
+                    delete(candidate);
+                    return;
+                }
+                if (size <= maxSize) {
+                    return;
+                }
+                int victim = sampleVictim(now, ttl, sketch, candidate);
+                boolean admit = victim >= 0
+                        && (now - writeTimes[victim] >= ttl
+                        || sketch.frequency((int) mix(key)) > sketch.frequency((int) mix(keys[victim]))
+                        || ThreadLocalRandom.current().nextInt(128) == 0);
+                delete(admit ? victim : candidate);
+                return;
+            }
+        }
+
+        // main-area entries only (window entries and the competing candidate are skipped)
+        private int sampleVictim(long now, long ttl, FrequencySketch sketch, int candidate) {
+            int index = ThreadLocalRandom.current().nextInt(mask + 1);
+            int victim = -1;
+            int victimFrequency = Integer.MAX_VALUE;
+            for (int seen = 0, probes = 0; seen < SAMPLE_SIZE && probes <= mask; probes++, index = (index + 1) & mask) {
+                if (values[index] == null || inWindow[index] || index == candidate) {
+                    continue;
+                }
+                seen++;
+                if (now - writeTimes[index] >= ttl) {
+                    return index;
+                }
+                int frequency = sketch.frequency((int) mix(keys[index]));
+                if (frequency < victimFrequency) {
+                    victim = index;
+                    victimFrequency = frequency;
+                }
+            }
+            return victim;
+        }
+
+        private int insert(long key, int hash, V value, long writeTime) {
+            int index = hash & mask;
+            while (values[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            writeTimes[index] = writeTime;
+            values[index] = value;
+            size++;
+            return index;
+        }
+
+        // backward-shift deletion, no tombstones
+        private void delete(int index) {
+            if (inWindow[index]) {
+                windowSize--;
+            }
+            int hole = index;
+            int next = (hole + 1) & mask;
+            while (values[next] != null) {
+                int home = (int) mix(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    writeTimes[hole] = writeTimes[next];
+                    values[hole] = values[next];
+                    inWindow[hole] = inWindow[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            values[hole] = null;
+            inWindow[hole] = false;
+            size--;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.xxxx.ddd.infrastructure.cache.offheap;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Fixed-size records keyed by a long id, stored in direct ByteBuffers (off-heap, 64 MB chunks).
+ * The heap only holds the index (two primitive arrays sized once) — no object per entry,
+ * so heap size and GC work do not grow with the number of records.
+ *
+ * Record layout: [int seq][int pad][long id][payload ... recordSize]
+ * - writes are serialized by a StampedLock and published with a per-record seqlock (seq odd while writing)
+ * - reads are lock-free: optimistic index lookup, then copy out under the seqlock and retry if a write overlapped
+ *
+ * Readers must only copy data out of the buffer (no references kept) and tolerate garbage on a torn read:
+ * the result is discarded when the seq changed.
+ *
+ * The store knows nothing about expiry: owners reclaim dead records with removeIf (e.g. when write reports full).
+ */
+public class OffHeapRecordStore {
+
+    @FunctionalInterface
+    public interface RecordWriter {
+        void write(ByteBuffer buffer, int offset);
+    }
+
+    @FunctionalInterface
+    public interface RecordReader<T> {
+        T read(ByteBuffer buffer, int offset);
+    }
+
+    private static final VarHandle SEQ = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final int CHUNK_BYTES = 1 << 26;
+    private static final int HEADER_BYTES = 16;
+    private static final long NO_ID = Long.MIN_VALUE;
+
+    private final int recordSize;
+    private final int maxRecords;
+    private final int recordsPerChunk;
+    private final ByteBuffer[] chunks;
+
+    // open addressing, linear probing; capacity fixed at 2x maxRecords so it never rehashes
+    private final long[] indexKeys;
+    private final int[] indexSlots;
+    private final int indexMask;
+
+    private final int[] freeSlots;
+    private int freeCount;
+    private int nextSlot;
+    private int size;
+
+    private final StampedLock lock = new StampedLock();
+
+    public OffHeapRecordStore(int payloadSize, int maxRecords) {
+        this.recordSize = (HEADER_BYTES + payloadSize + 7) & ~7;
+        if (recordSize > CHUNK_BYTES) {
+            throw new IllegalArgumentException("record larger than a chunk: " + recordSize);
+        }
+        this.maxRecords = maxRecords;
+        this.recordsPerChunk = CHUNK_BYTES / recordSize;
+        this.chunks = new ByteBuffer[(maxRecords + recordsPerChunk - 1) / recordsPerChunk];
+
+        int capacity = Integer.highestOneBit(Math.max(2, maxRecords) * 2 - 1) << 1;
+        this.indexKeys = new long[capacity];
+        this.indexSlots = new int[capacity];
+        this.indexMask = capacity - 1;
+        Arrays.fill(indexKeys, NO_ID);
+
+        this.freeSlots = new int[maxRecords];
+    }
+
+    public <T> T read(long id, RecordReader<T> reader) {
+        while (true) {
+            long stamp = lock.tryOptimisticRead();
+            int slot = find(id);
+            ByteBuffer chunk = slot < 0 ? null : chunks[slot / recordsPerChunk];
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    slot = find(id);
+                    chunk = slot < 0 ? null : chunks[slot / recordsPerChunk];
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            if (slot < 0) {
+                return null;
+            }
+
+            int offset = (slot % recordsPerChunk) * recordSize;
+            int before = (int) SEQ.getAcquire(chunk, offset);
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            T result = null;
+            boolean sameId = false;
+            RuntimeException failure = null;
+            try {
+                sameId = chunk.getLong(offset + 8) == id;
+                if (sameId) {
+                    result = reader.read(chunk, offset + HEADER_BYTES);
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+
+            VarHandle.loadLoadFence();
+            if ((int) SEQ.getVolatile(chunk, offset) != before) {
+                // a write overlapped the copy (result may be garbage) → retry
+                continue;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (sameId) {
+                return result;
+            }
+            // slot freed or reused for another id between lookup and read → look up again
+        }
+    }
+
+    /**
+     * Insert or overwrite. Returns false when the store is full.
+     */
+    public boolean write(long id, RecordWriter writer) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(id);
+            if (slot < 0) {
+                slot = allocateSlot();
+                if (slot < 0) {
+                    return false;
+                }
+                insertIndex(id, slot);
+            }
+
+            ByteBuffer chunk = chunks[slot / recordsPerChunk];
+            int offset = (slot % recordsPerChunk) * recordSize;
+            int seq = (int) SEQ.getVolatile(chunk, offset);
+            SEQ.setVolatile(chunk, offset, seq + 1);
+            VarHandle.storeStoreFence();
+            chunk.putLong(offset + 8, id);
+            writer.write(chunk, offset + HEADER_BYTES);
+            SEQ.setRelease(chunk, offset, seq + 2);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(long id) {
+        long stamp = lock.writeLock();
+        try {
+            int position = findPosition(id);
+            if (position < 0) {
+                return false;
+            }
+            removeAt(position);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove every record the predicate accepts; one pass over the allocated slots under the write lock
+     * (no concurrent write, so the predicate sees consistent records).
+     *
+     * @return number of records removed
+     */
+    public int removeIf(RecordReader<Boolean> predicate) {
+        long stamp = lock.writeLock();
+        try {
+            int removed = 0;
+            for (int slot = 0; slot < nextSlot; slot++) {
+                ByteBuffer chunk = chunks[slot / recordsPerChunk];
+                int offset = (slot % recordsPerChunk) * recordSize;
+                long id = chunk.getLong(offset + 8);
+                if (id != NO_ID && Boolean.TRUE.equals(predicate.read(chunk, offset + HEADER_BYTES))) {
+                    removeAt(findPosition(id));
+                    removed++;
+                }
+            }
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // write lock held
+    private void removeAt(int position) {
+        int slot = indexSlots[position];
+        ByteBuffer chunk = chunks[slot / recordsPerChunk];
+        int offset = (slot % recordsPerChunk) * recordSize;
+        int seq = (int) SEQ.getVolatile(chunk, offset);
+        SEQ.setVolatile(chunk, offset, seq + 1);
+        VarHandle.storeStoreFence();
+        chunk.putLong(offset + 8, NO_ID);
+        SEQ.setRelease(chunk, offset, seq + 2);
+
+        deleteIndex(position);
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long capacityBytes() {
+        return (long) chunks.length * recordsPerChunk * recordSize;
+    }
+
+    private int allocateSlot() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else if (nextSlot < maxRecords) {
+            slot = nextSlot++;
+            int chunkIndex = slot / recordsPerChunk;
+            if (chunks[chunkIndex] == null) {
+                int records = Math.min(recordsPerChunk, maxRecords - chunkIndex * recordsPerChunk);
+                chunks[chunkIndex] = ByteBuffer.allocateDirect(records * recordSize).order(ByteOrder.nativeOrder());
+            }
+        } else {
+            return -1;
+        }
+        size++;
+        return slot;
+    }
+
+    private int find(long id) {
+        int position = findPosition(id);
+        return position < 0 ? -1 : indexSlots[position];
+    }
+
+    private int findPosition(long id) {
+        int position = hash(id);
+        while (true) {
+            long key = indexKeys[position];
+            if (key == id) {
+                return position;
+            }
+            if (key == NO_ID) {
+                return -1;
+            }
+            position = (position + 1) & indexMask;
+        }
+    }
+
+    private void insertIndex(long id, int slot) {
+        int position = hash(id);
+        while (indexKeys[position] != NO_ID) {
+            position = (position + 1) & indexMask;
+        }
+        indexSlots[position] = slot;
+        indexKeys[position] = id;
+    }
+
+    // backward-shift deletion keeps probe chains intact without tombstones
+    private void deleteIndex(int position) {
+        int hole = position;
+        int next = (hole + 1) & indexMask;
+        while (indexKeys[next] != NO_ID) {
+            int home = hash(indexKeys[next]);
+            // move next into the hole if its home is not within (hole, next]
+            if (((next - home) & indexMask) >= ((next - hole) & indexMask)) {
+                indexKeys[hole] = indexKeys[next];
+                indexSlots[hole] = indexSlots[next];
+                hole = next;
+            }
+            next = (next + 1) & indexMask;
+        }
+        indexKeys[hole] = NO_ID;
+    }
+
+    private int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & indexMask;
+    }
+}
@@ -0,0 +1,18 @@
+package com.xxxx.ddd.infrastructure.cache.redis;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reactive port of {@link RedisInfrasService}: no thread is blocked while waiting for Redis.
+ * An empty Mono means "key not found"; a Redis error is logged and reported the same way (empty / false),
+ * so callers fall through to their source instead of failing the request.
+ */
+public interface ReactiveRedisInfrasService {
+    Mono<Boolean> setObject(String key, Object value);
+    Mono<Boolean> setObject(String key, Object value, Duration timeout);
+    <T> Mono<T> getObject(String key, Class<T> targetClass);
+
+    Mono<Boolean> delete(String key);
+}
@@ -0,0 +1,86 @@
+package com.xxxx.ddd.infrastructure.cache.redis;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class ReactiveRedisInfrasServiceImpl implements ReactiveRedisInfrasService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Resource
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Override
+    public Mono<Boolean> setObject(String key, Object value) {
+        if (!StringUtils.hasLength(key)) {
+            return Mono.just(false);
+        }
+        return reactiveRedisTemplate.opsForValue().set(key, value)
+                .onErrorResume(e -> {
+                    log.error("reactive setObject error:{}", e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    @Override
+    public Mono<Boolean> setObject(String key, Object value, Duration timeout) {
+        if (!StringUtils.hasLength(key)) {
+            return Mono.just(false);
+        }
+        return reactiveRedisTemplate.opsForValue().set(key, value, timeout)
+                .onErrorResume(e -> {
+                    log.error("reactive setObject with ttl error:{}", e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    @Override
+    public <T> Mono<T> getObject(String key, Class<T> targetClass) {
+        return reactiveRedisTemplate.opsForValue().get(key)
+                .flatMap(result -> Mono.justOrEmpty(convert(result, targetClass)))
+                .onErrorResume(e -> {
+                    log.error("reactive getObject error:{}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    @Override
+    public Mono<Boolean> delete(String key) {
+        if (!StringUtils.hasLength(key)) {
+            return Mono.just(false);
+        }
+        return reactiveRedisTemplate.delete(key)
+                .map(count -> count > 0)
+                .onErrorResume(e -> {
+                    log.error("reactive delete error:{}", e.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    // same conversion rules as RedisInfrasServiceImpl.getObject
+    private <T> T convert(Object result, Class<T> targetClass) {
+        try {
+            if (result instanceof Map) {
+                return OBJECT_MAPPER.convertValue(result, targetClass);
+            }
+            if (result instanceof String) {
+                return OBJECT_MAPPER.readValue((String) result, targetClass);
+            }
+        } catch (Exception e) {
+            log.error("Error converting cached value to {}: {}", targetClass.getSimpleName(), e.getMessage());
+        }
+        return null;
+    }
+}
@@ -1,12 +1,32 @@
 package com.xxxx.ddd.infrastructure.cache.redis;
 
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 public interface RedisInfrasService {
     void setString(String key, String value);
     String getString(String key);
+    // MGET, one round trip; element null = missing key; whole result null if Redis is unavailable
+    List<String> multiGetString(List<String> keys);
 
     void setObject(String key, Object value);
+    void setObject(String key, Object value, long timeout, TimeUnit unit);
     <T> T getObject(String key, Class<T> targetClass);
 
-//    void put(String key, Object value, long timeout, TimeUnit unit);
-//    void put(String key, Object value, long expireTime);
+    // SET NX; false if the key exists or Redis is unavailable
+    boolean setObjectIfAbsent(String key, Object value, long timeout, TimeUnit unit);
+    // SET NX without expiry, for authoritative counters
+    boolean setObjectIfAbsent(String key, Object value);
+
+    // Lua script; null if Redis is unavailable
+    <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args);
+
+    void delete(String key);
+
+    /**
+     * false while the Redis circuit breaker is open (Redis unreachable): reads return null, writes are skipped.
+     */
+    boolean isAvailable();
 }
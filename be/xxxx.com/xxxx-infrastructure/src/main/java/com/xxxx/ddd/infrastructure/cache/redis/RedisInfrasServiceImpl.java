@@ -2,20 +2,53 @@ package com.xxxx.ddd.infrastructure.cache.redis;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+/**
+ * Every command goes through the "redisCache" circuit breaker (resilience4j.circuitbreaker.instances.redisCache).
+ * When Redis is unreachable the breaker opens: reads return null (= cache miss) and writes are skipped
+ * immediately, without waiting for Lettuce timeouts. Half-open trial calls close it again once Redis is back.
+ */
 @Component
 @Slf4j
+@Observed(name = "ticket.layer", lowCardinalityKeyValues = {"layer", "redis"})
 public class RedisInfrasServiceImpl implements RedisInfrasService {
     @Resource
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Resource
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void init() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("redisCache");
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Redis cache circuit breaker: {}", event.getStateTransition()));
+    }
+
+    @Override
+    public boolean isAvailable() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
     @Override
     public void setString(String key, String value) {
         // return if key is null or ''
@@ -23,7 +56,10 @@ public class RedisInfrasServiceImpl implements RedisInfrasService {
             // null or ''
             return;
         }
-        redisTemplate.opsForValue().set(key, value);
+        execute("setString", () -> {
+            redisTemplate.opsForValue().set(key, value);
+            return null;
+        });
     }
 
     @Override
@@ -33,11 +69,20 @@ public class RedisInfrasServiceImpl implements RedisInfrasService {
         // return null;
         // }
         // return String.valueOf(result);
-        return Optional.ofNullable(redisTemplate.opsForValue().get(key))
+        return Optional.ofNullable(execute("getString", () -> redisTemplate.opsForValue().get(key)))
                 .map(String::valueOf)
                 .orElse(null);
     }
 
+    @Override
+    public List<String> multiGetString(List<String> keys) {
+        List<Object> values = execute("multiGetString", () -> redisTemplate.opsForValue().multiGet(keys));
+        if (values == null) {
+            return null;
+        }
+        return values.stream().map(value -> value == null ? null : String.valueOf(value)).toList();
+    }
+
     @Override
     public void setObject(String key, Object value) {
         // log.info("Set redis::1, {}", key);
@@ -46,11 +91,10 @@ public class RedisInfrasServiceImpl implements RedisInfrasService {
             return;
         }
 
-        try {
+        execute("setObject", () -> {
             redisTemplate.opsForValue().set(key, value);
-        } catch (Exception e) {
-            log.error("setObject error:{}", e.getMessage());
-        }
+            return null;
+        });
         // redisTemplate.opsForValue().set(key, value);
         // // Kiểm tra xem giá trị có được lưu thành công hay không
         // Object result = redisTemplate.opsForValue().get(key);
@@ -58,10 +102,22 @@ public class RedisInfrasServiceImpl implements RedisInfrasService {
 
     }
 
+    @Override
+    public void setObject(String key, Object value, long timeout, TimeUnit unit) {
+        if (!StringUtils.hasLength(key)) { // null or ''
+            return;
+        }
+
+        execute("setObject with ttl", () -> {
+            redisTemplate.opsForValue().set(key, value, timeout, unit);
+            return null;
+        });
+    }
+
     @Override
     public <T> T getObject(String key, Class<T> targetClass) {
-        Object result = redisTemplate.opsForValue().get(key);
-        log.info("get Cache::{}", result);
+        Object result = execute("getObject", () -> redisTemplate.opsForValue().get(key));
+        log.debug("get Cache::{} hit={}", key, result != null); // not the value: formatting whole JSON per read
         if (result == null) {
             return null;
         }
@@ -96,4 +152,53 @@ public class RedisInfrasServiceImpl implements RedisInfrasService {
         }
         return null; // hoặc ném ra một ngoại lệ tùy ý
     }
+
+    @Override
+    public boolean setObjectIfAbsent(String key, Object value, long timeout, TimeUnit unit) {
+        if (!StringUtils.hasLength(key)) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(execute("setObjectIfAbsent",
+                () -> redisTemplate.opsForValue().setIfAbsent(key, value, timeout, unit)));
+    }
+
+    @Override
+    public boolean setObjectIfAbsent(String key, Object value) {
+        if (!StringUtils.hasLength(key)) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(execute("setObjectIfAbsent",
+                () -> redisTemplate.opsForValue().setIfAbsent(key, value)));
+    }
+
+    @Override
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+        return execute("executeScript", () -> redisTemplate.execute(script, keys, args));
+    }
+
+    @Override
+    public void delete(String key) {
+        if (!StringUtils.hasLength(key)) {
+            return;
+        }
+
+        execute("delete", () -> redisTemplate.delete(key));
+    }
+
+    /**
+     * Run a Redis command through the circuit breaker; any failure is logged and turned into null.
+     */
+    private <T> T execute(String operation, Supplier<T> command) {
+        try {
+            return circuitBreaker.executeSupplier(command);
+        } catch (CallNotPermittedException e) {
+            // breaker open — Redis considered down, skip without touching the network
+            return null;
+        } catch (Exception e) {
+            log.error("{} error:{}", operation, e.getMessage());
+            return null;
+        }
+    }
 }
@@ -0,0 +1,129 @@
+package com.xxxx.ddd.infrastructure.cache.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Cache snapshot in a memory-mapped file: written once on shutdown, read once on startup.
+ *
+ * Layout (big endian):
+ * <pre>
+ * header  : magic(4) format(4) count(4) crc32c(4) createdAt(8) bodyLength(8)
+ * record  : key(8) writtenAt(8) version(8) length(4) payload(length)
+ * </pre>
+ * - writtenAt: epoch millis of the cache write → the restored entry keeps its remaining TTL.
+ * - version: caller-defined stamp (e.g. updatedAt), checked against the source of truth before the entry is used.
+ * - Written to {@code <path>.tmp}, forced, then atomically renamed; a torn / foreign file fails the magic or CRC check
+ *   and is ignored.
+ */
+@Slf4j
+public final class MappedSnapshotFile {
+
+    private static final int MAGIC = 0x53534E50; // "SSNP"
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_HEADER_BYTES = 28;
+
+    public record Entry(long key, long writtenAt, long version, byte[] payload) {
+    }
+
+    private MappedSnapshotFile() {
+    }
+
+    /**
+     * @return bytes written
+     */
+    public static long write(Path path, List<Entry> entries) throws IOException {
+        long bodyLength = 0;
+        for (Entry entry : entries) {
+            bodyLength += RECORD_HEADER_BYTES + entry.payload().length;
+        }
+        long fileLength = HEADER_BYTES + bodyLength;
+        if (fileLength > Integer.MAX_VALUE) {
+            throw new IOException("snapshot too large: " + fileLength + " bytes");
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileLength);
+            buffer.position(HEADER_BYTES);
+            for (Entry entry : entries) {
+                buffer.putLong(entry.key())
+                        .putLong(entry.writtenAt())
+                        .putLong(entry.version())
+                        .putInt(entry.payload().length)
+                        .put(entry.payload());
+            }
+
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(HEADER_BYTES, (int) bodyLength));
+            buffer.putInt(0, MAGIC)
+                    .putInt(4, FORMAT)
+                    .putInt(8, entries.size())
+                    .putInt(12, (int) crc.getValue())
+                    .putLong(16, System.currentTimeMillis())
+                    .putLong(24, bodyLength);
+            buffer.force();
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return fileLength;
+    }
+
+    /**
+     * @return the entries, or an empty list when the file is missing, truncated or fails the checksum
+     */
+    public static List<Entry> read(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return Collections.emptyList();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileLength = channel.size();
+            if (fileLength < HEADER_BYTES || fileLength > Integer.MAX_VALUE) {
+                log.warn("snapshot {} ignored: bad length {}", path, fileLength);
+                return Collections.emptyList();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileLength);
+            int count = buffer.getInt(8);
+            long bodyLength = buffer.getLong(24);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT || count < 0
+                    || bodyLength != fileLength - HEADER_BYTES) {
+                log.warn("snapshot {} ignored: bad header", path);
+                return Collections.emptyList();
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(HEADER_BYTES, (int) bodyLength));
+            if ((int) crc.getValue() != buffer.getInt(12)) {
+                log.warn("snapshot {} ignored: checksum mismatch", path);
+                return Collections.emptyList();
+            }
+
+            List<Entry> entries = new ArrayList<>(count);
+            buffer.position(HEADER_BYTES);
+            for (int i = 0; i < count; i++) {
+                long key = buffer.getLong();
+                long writtenAt = buffer.getLong();
+                long version = buffer.getLong();
+                byte[] payload = new byte[buffer.getInt()];
+                buffer.get(payload);
+                entries.add(new Entry(key, writtenAt, version, payload));
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.xxxx.ddd.infrastructure.cache.soldout;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Compact set of ticket item ids, one bit per id: 1M ids = 16384 longs = 128 KB.
+ * Ids outside [0, capacity) go to an overflow set so nothing is lost, just slower.
+ * Lookups are a single volatile read of one long — no allocation, no lock.
+ */
+public class SoldOutBitmap {
+
+    private final AtomicLongArray words;
+    private final long capacity;
+    private final Set<Long> overflow = ConcurrentHashMap.newKeySet();
+
+    public SoldOutBitmap(int capacity) {
+        this.words = new AtomicLongArray((capacity + 63) >>> 6);
+        this.capacity = (long) words.length() << 6;
+    }
+
+    public boolean contains(long id) {
+        if (id < 0 || id >= capacity) {
+            return !overflow.isEmpty() && overflow.contains(id);
+        }
+        return (words.get((int) (id >>> 6)) & (1L << id)) != 0;
+    }
+
+    /**
+     * @return true if the id was not in the set yet
+     */
+    public boolean add(long id) {
+        if (id < 0 || id >= capacity) {
+            return overflow.add(id);
+        }
+        long mask = 1L << id;
+        return (words.getAndAccumulate((int) (id >>> 6), mask, (word, bit) -> word | bit) & mask) == 0;
+    }
+
+    /**
+     * @return true if the id was in the set
+     */
+    public boolean remove(long id) {
+        if (id < 0 || id >= capacity) {
+            return overflow.remove(id);
+        }
+        long mask = 1L << id;
+        return (words.getAndAccumulate((int) (id >>> 6), ~mask, (word, bits) -> word & bits) & mask) != 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < words.length(); i++) {
+            words.set(i, 0L);
+        }
+        overflow.clear();
+    }
+}
@@ -0,0 +1,15 @@
+package com.xxxx.ddd.infrastructure.cache.soldout;
+
+/**
+ * Node-local sold-out set for ticket items, persisted in Redis and kept in sync across nodes through a pub/sub topic.
+ * A miss only means "not known to be sold out": callers still check stock in Redis.
+ */
+public interface SoldOutService {
+    boolean isSoldOut(Long ticketItemId);
+
+    // mark locally and broadcast to the other nodes
+    void markSoldOut(Long ticketItemId);
+
+    // stock returned to the pool: clear locally and broadcast
+    void clearSoldOut(Long ticketItemId);
+}
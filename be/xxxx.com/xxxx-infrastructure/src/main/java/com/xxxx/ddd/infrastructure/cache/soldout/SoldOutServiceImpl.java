@@ -0,0 +1,130 @@
+package com.xxxx.ddd.infrastructure.cache.soldout;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RSet;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages on the topic are plain longs: id = sold out, -id = cleared.
+ * The publisher also receives its own message; add/remove are idempotent.
+ *
+ * The set itself is kept in Redis (PRO_TICKET:SOLD_OUT:SET, no TTL): a node loads it once subscribed, so a restart
+ * or a missed message does not lose sold-out state. Set update first, broadcast after.
+ * If Redis is unreachable, updates stay local and the subscription is retried every subscribe-retry-ms.
+ */
+@Service
+@Slf4j
+public class SoldOutServiceImpl implements SoldOutService {
+
+    private static final String TOPIC = "PRO_TICKET:SOLD_OUT";
+    private static final String SET_KEY = "PRO_TICKET:SOLD_OUT:SET";
+
+    @Resource
+    private RedissonClient redissonClient;
+
+    @Value("${ticket.sold-out.subscribe-retry-ms:5000}")
+    private long subscribeRetryMs;
+
+    private final SoldOutBitmap soldOutBitmap;
+    private volatile boolean listening;
+
+    private final ScheduledExecutorService retryTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sold-out-subscribe");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SoldOutServiceImpl(@Value("${ticket.sold-out.bitmap-size:1048576}") int bitmapSize) {
+        this.soldOutBitmap = new SoldOutBitmap(bitmapSize);
+    }
+
+    // subscribe once the app is up so the Redisson connection stays lazy during startup
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        try {
+            if (!listening) {
+                getTopic().addListener(Long.class, (channel, message) -> apply(message));
+                listening = true;
+            }
+            // after the listener: an update published while loading is applied twice, never missed
+            int loaded = 0;
+            for (Long ticketItemId : getSet().readAll()) {
+                soldOutBitmap.add(ticketItemId);
+                loaded++;
+            }
+            log.info("Subscribed to sold-out topic {}, loaded {} sold-out items", TOPIC, loaded);
+        } catch (Exception e) {
+            log.warn("Sold-out topic subscription failed, retrying in {} ms: {}", subscribeRetryMs, e.getMessage());
+            retryTimer.schedule(this::subscribe, subscribeRetryMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public boolean isSoldOut(Long ticketItemId) {
+        return ticketItemId != null && soldOutBitmap.contains(ticketItemId);
+    }
+
+    @Override
+    public void markSoldOut(Long ticketItemId) {
+        if (soldOutBitmap.add(ticketItemId)) {
+            log.info("Ticket item sold out: {}", ticketItemId);
+            try {
+                getSet().addAsync(ticketItemId).whenComplete((added, e) -> publish(ticketItemId));
+            } catch (Exception e) {
+                log.warn("Sold-out update failed for {}: {}", ticketItemId, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void clearSoldOut(Long ticketItemId) {
+        soldOutBitmap.remove(ticketItemId);
+        // always broadcast: other nodes may have it even if this one does not
+        try {
+            getSet().removeAsync(ticketItemId).whenComplete((removed, e) -> publish(-ticketItemId));
+        } catch (Exception e) {
+            log.warn("Sold-out update failed for {}: {}", -ticketItemId, e.getMessage());
+        }
+    }
+
+    private void apply(Long message) {
+        if (message > 0) {
+            soldOutBitmap.add(message);
+        } else {
+            soldOutBitmap.remove(-message);
+        }
+    }
+
+    private void publish(long message) {
+        try {
+            getTopic().publishAsync(message);
+        } catch (Exception e) {
+            log.warn("Sold-out broadcast failed for {}: {}", message, e.getMessage());
+        }
+    }
+
+    private RTopic getTopic() {
+        return redissonClient.getTopic(TOPIC, LongCodec.INSTANCE);
+    }
+
+    private RSet<Long> getSet() {
+        return redissonClient.getSet(SET_KEY, LongCodec.INSTANCE);
+    }
+
+    @PreDestroy
+    public void stop() {
+        retryTimer.shutdownNow();
+    }
+}
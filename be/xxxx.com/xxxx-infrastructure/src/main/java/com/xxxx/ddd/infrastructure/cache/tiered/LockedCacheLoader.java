@@ -0,0 +1,69 @@
+package com.xxxx.ddd.infrastructure.cache.tiered;
+
+import com.xxxx.ddd.infrastructure.concurrent.SingleFlight;
+import com.xxxx.ddd.infrastructure.distributed.redisson.RedisDistributedLocker;
+import com.xxxx.ddd.infrastructure.distributed.redisson.RedisDistributedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Double-miss path of {@link TieredCacheAspect} (annotation and getOrLoad, the latter used by Level 3 in TicketDetailCacheService):
+ * lock → double-check the remote cache → load from the source.
+ *
+ * A caller that does not get the lock within the wait time is not answered with null:
+ * it re-checks the remote cache (the holder has usually written it by then) and otherwise
+ * loads itself, deduplicated per node by a SingleFlight.
+ * The same SingleFlight replaces the lock while the lock's Redis is unavailable (circuit breaker open).
+ */
+@Component
+@Slf4j
+public class LockedCacheLoader {
+
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+
+    @Autowired
+    private RedisDistributedService redisDistributedService;
+
+    /**
+     * @param recheck reads the remote cache again (and refills the local tier); null means miss
+     * @param loader  loads from the source and writes the caches back
+     */
+    public <T> T load(String lockKey, long waitMillis, long leaseMillis, Supplier<T> recheck, Supplier<T> loader) {
+        if (!redisDistributedService.isAvailable()) {
+            log.warn("lock service unavailable, single-flight load for lockKey={}", lockKey);
+            return singleFlightLoad(lockKey, loader);
+        }
+
+        RedisDistributedLocker locker = redisDistributedService.getDistributedLock(lockKey);
+        try {
+            boolean isLock = locker.tryLock(waitMillis, leaseMillis, TimeUnit.MILLISECONDS);
+
+            // double-check: the lock holder (this or another node) may have populated it
+            T value = recheck.get();
+            if (value != null) {
+                return value;
+            }
+
+            if (!isLock) {
+                log.info("failed to acquire lock, single-flight load for lockKey={}", lockKey);
+                return singleFlightLoad(lockKey, loader);
+            }
+
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            locker.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T singleFlightLoad(String lockKey, Supplier<T> loader) {
+        return (T) singleFlight.execute(lockKey, loader::get);
+    }
+}
@@ -0,0 +1,285 @@
+package com.xxxx.ddd.infrastructure.cache.tiered;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.xxxx.ddd.infrastructure.cache.redis.RedisInfrasService;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Generic version of the Level 3 strategy in TicketDetailCacheService:
+ * L1 Guava → L2 Redis → lock (double-check Redis) → method (DB) → write back both tiers.
+ * The double-miss path is {@link LockedCacheLoader}.
+ * See {@link TieredCacheable} / {@link TieredCacheEvict}; {@link #getOrLoad} is the same L2 / lock / load flow for
+ * callers with an L1 of their own (Level 3: primitive-key / off-heap cache), sharing keys and Redis format.
+ */
+@Aspect
+@Component
+@Slf4j
+public class TieredCacheAspect implements SmartInitializingSingleton {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final ExpressionParser expressionParser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> keyExpressions = new ConcurrentHashMap<>();
+
+    // one L1 cache per cacheName
+    private final Map<String, Cache<String, LocalEntry>> localCaches = new ConcurrentHashMap<>();
+
+    // L1 settings each cacheName was created with; checked against every other annotation using that name
+    private final Map<String, LocalCacheSpec> localCacheSpecs = new ConcurrentHashMap<>();
+
+    @Autowired
+    private RedisInfrasService redisInfrasService;
+
+    @Autowired
+    private LockedCacheLoader lockedCacheLoader;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    /**
+     * Creates the L1 cache of every @TieredCacheable method at startup, so that two methods
+     * declaring the same cacheName with different L1 settings fail the boot instead of
+     * silently running with whichever was called first.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<TieredCacheable> annotations = new ArrayList<>();
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> beanType = applicationContext.getType(beanName, false);
+            if (beanType == null) {
+                continue;
+            }
+            try {
+                ReflectionUtils.doWithMethods(ClassUtils.getUserClass(beanType), method -> {
+                    TieredCacheable tieredCacheable = AnnotatedElementUtils.findMergedAnnotation(method, TieredCacheable.class);
+                    if (tieredCacheable != null) {
+                        annotations.add(tieredCacheable);
+                    }
+                }, ReflectionUtils.USER_DECLARED_METHODS);
+            } catch (IllegalStateException | LinkageError e) {
+                // class with unresolvable optional dependencies, cannot carry our annotation anyway
+                log.debug("skip introspection of bean {}: {}", beanName, e.toString());
+            }
+        }
+        annotations.forEach(tieredCacheable -> registerLocalCache(tieredCacheable.cacheName(), tieredCacheable));
+    }
+
+    @Around("@annotation(tieredCacheable)")
+    public Object cacheable(ProceedingJoinPoint pjp, TieredCacheable tieredCacheable) throws Throwable {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        String key = resolveKey(tieredCacheable.key(), method, pjp.getArgs(), pjp.getTarget());
+        Cache<String, LocalEntry> localCache = getLocalCache(tieredCacheable.cacheName(), tieredCacheable);
+
+        // 1. local cache
+        LocalEntry localEntry = localCache.getIfPresent(key);
+        if (localEntry != null && !localEntry.isExpired()) {
+            return localEntry.value();
+        }
+
+        // 2. Redis → 3. lock → method, the result written back to L1 (null with its own TTL)
+        JavaType returnType = OBJECT_MAPPER.getTypeFactory().constructType(method.getGenericReturnType());
+        try {
+            return remoteOrLoad(key, returnType, TieredCacheSpec.of(tieredCacheable), () -> proceed(pjp),
+                    value -> localCache.put(key, value == null
+                            ? LocalEntry.of(null, tieredCacheable.nullTtlSeconds())
+                            : LocalEntry.of(value, tieredCacheable.localTtlSeconds())));
+        } catch (SourceException e) {
+            throw e.getCause(); // what the method itself threw
+        }
+    }
+
+    /**
+     * L2 Redis → lock (double-check) → loader → write back L2, without the aspect's L1.
+     * Same keys, Redis format (TieredCacheEntry) and null caching as {@link TieredCacheable}.
+     *
+     * @param onResult called with the result (null included) taken from Redis or the loader, to fill the caller's L1
+     */
+    public <T> T getOrLoad(String key, Class<T> type, TieredCacheSpec spec, Supplier<T> loader, Consumer<T> onResult) {
+        JavaType javaType = OBJECT_MAPPER.getTypeFactory().constructType(type);
+        return type.cast(remoteOrLoad(key, javaType, spec, loader::get, value -> onResult.accept(type.cast(value))));
+    }
+
+    /**
+     * Write a value (or the null marker) as {@link TieredCacheable} would, e.g. after a load outside getOrLoad.
+     */
+    public void putRemote(String key, Object value, TieredCacheSpec spec) {
+        long ttlSeconds = value == null ? spec.nullTtlSeconds() : spec.redisTtlSeconds();
+        redisInfrasService.setObject(key, new TieredCacheEntry(value, value == null), ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Value of an entry read from Redis by another client (e.g. the reactive one); null for a cached null.
+     */
+    public <T> T decode(TieredCacheEntry entry, Class<T> type) {
+        return type.cast(decode(entry, OBJECT_MAPPER.getTypeFactory().constructType(type)));
+    }
+
+    private Object remoteOrLoad(String key, JavaType type, TieredCacheSpec spec, Supplier<Object> loader, Consumer<Object> onResult) {
+        TieredCacheEntry remoteEntry = getRemote(key);
+        if (remoteEntry != null) {
+            return resolved(decode(remoteEntry, type), onResult);
+        }
+
+        if (spec.lockPolicy() == TieredLockPolicy.NONE) {
+            return resolved(loadAndStore(key, spec, loader), onResult);
+        }
+
+        // both tiers missed — only the lock holder goes to the source
+        // results are wrapped so that a cached null is not taken for a miss
+        Resolved loaded = lockedCacheLoader.load(spec.lockKeyPrefix() + key, spec.lockWaitMillis(), spec.lockLeaseMillis(),
+                () -> {
+                    TieredCacheEntry entry = getRemote(key);
+                    return entry == null ? null : new Resolved(resolved(decode(entry, type), onResult));
+                },
+                () -> new Resolved(resolved(loadAndStore(key, spec, loader), onResult)));
+        return loaded.value();
+    }
+
+    @Around("@annotation(tieredCacheEvict)")
+    public Object evict(ProceedingJoinPoint pjp, TieredCacheEvict tieredCacheEvict) throws Throwable {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        String key = resolveKey(tieredCacheEvict.key(), method, pjp.getArgs(), pjp.getTarget());
+
+        if (tieredCacheEvict.beforeInvocation()) {
+            evict(tieredCacheEvict.cacheName(), key);
+            return pjp.proceed();
+        }
+
+        Object result = pjp.proceed();
+        evict(tieredCacheEvict.cacheName(), key);
+        return result;
+    }
+
+    /**
+     * Programmatic eviction, for callers that cannot go through an annotated method.
+     */
+    public void evict(String cacheName, String key) {
+        Cache<String, LocalEntry> localCache = localCaches.get(cacheName);
+        if (localCache != null) {
+            localCache.invalidate(key);
+        }
+        redisInfrasService.delete(key);
+    }
+
+    /**
+     * L1 only: another node already deleted the Redis entry and broadcast the eviction.
+     */
+    public void evictLocal(String cacheName, String key) {
+        Cache<String, LocalEntry> localCache = localCaches.get(cacheName);
+        if (localCache != null) {
+            localCache.invalidate(key);
+        }
+    }
+
+    private Object loadAndStore(String key, TieredCacheSpec spec, Supplier<Object> loader) {
+        Object value = loader.get();
+        // null is cached too (nullTtlSeconds) to prevent cache penetration on non-existent keys
+        putRemote(key, value, spec);
+        return value;
+    }
+
+    private static Object resolved(Object value, Consumer<Object> onResult) {
+        onResult.accept(value);
+        return value;
+    }
+
+    private static Object proceed(ProceedingJoinPoint pjp) {
+        try {
+            return pjp.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SourceException(e);
+        }
+    }
+
+    private Object decode(TieredCacheEntry entry, JavaType type) {
+        return entry.isEmpty() ? null : OBJECT_MAPPER.convertValue(entry.getValue(), type);
+    }
+
+    private TieredCacheEntry getRemote(String key) {
+        return redisInfrasService.getObject(key, TieredCacheEntry.class);
+    }
+
+    private Cache<String, LocalEntry> getLocalCache(String cacheName, TieredCacheable tieredCacheable) {
+        Cache<String, LocalEntry> localCache = localCaches.get(cacheName);
+        return localCache != null ? localCache : registerLocalCache(cacheName, tieredCacheable);
+    }
+
+    private Cache<String, LocalEntry> registerLocalCache(String cacheName, TieredCacheable tieredCacheable) {
+        LocalCacheSpec spec = new LocalCacheSpec(tieredCacheable.localMaxSize(), tieredCacheable.localTtlSeconds());
+        LocalCacheSpec existing = localCacheSpecs.putIfAbsent(cacheName, spec);
+        if (existing != null && !existing.equals(spec)) {
+            throw new IllegalStateException("@TieredCacheable cacheName '" + cacheName + "' declared with conflicting L1 settings: "
+                    + existing + " vs " + spec);
+        }
+        return localCaches.computeIfAbsent(cacheName, name -> CacheBuilder.newBuilder()
+                .maximumSize(spec.maxSize())
+                .expireAfterWrite(spec.ttlSeconds(), TimeUnit.SECONDS)
+                .build());
+    }
+
+    private String resolveKey(String keyExpression, Method method, Object[] args, Object target) {
+        Expression expression = keyExpressions.computeIfAbsent(keyExpression, expressionParser::parseExpression);
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(target, method, args, parameterNameDiscoverer);
+        return String.valueOf(expression.getValue(context));
+    }
+
+    private record LocalCacheSpec(long maxSize, long ttlSeconds) {
+    }
+
+    private record Resolved(Object value) {
+    }
+
+    // checked exception of the annotated method, carried through the Supplier-based loaders
+    private static final class SourceException extends RuntimeException {
+        SourceException(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * L1 value with its own deadline, so a cached null can live shorter than the cache-wide TTL.
+     */
+    private record LocalEntry(Object value, long expireAtMillis) {
+        static LocalEntry of(Object value, long ttlSeconds) {
+            return new LocalEntry(value, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds));
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expireAtMillis;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.xxxx.ddd.infrastructure.cache.tiered;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Wrapper stored in Redis by {@link TieredCacheAspect}, so that a cached null
+ * can be told apart from a cache miss.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TieredCacheEntry {
+    private Object value;
+    private boolean empty; // true when the method returned null
+}
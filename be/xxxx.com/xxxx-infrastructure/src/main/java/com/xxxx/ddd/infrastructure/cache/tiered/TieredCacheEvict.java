@@ -0,0 +1,32 @@
+package com.xxxx.ddd.infrastructure.cache.tiered;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Removes an entry written by {@link TieredCacheable} from both the local (L1) and Redis (L2) tier.
+ * Only the L1 of the current node is cleared; other nodes keep their copy until {@code localTtlSeconds}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface TieredCacheEvict {
+
+    /**
+     * Must match the {@link TieredCacheable#cacheName()} of the cached method.
+     */
+    String cacheName();
+
+    /**
+     * SpEL expression for the key, same format as {@link TieredCacheable#key()}.
+     */
+    String key();
+
+    /**
+     * Evict before the method runs instead of after it returned successfully.
+     */
+    boolean beforeInvocation() default false;
+}
@@ -0,0 +1,15 @@
+package com.xxxx.ddd.infrastructure.cache.tiered;
+
+/**
+ * The Redis (L2) and lock settings of a {@link TieredCacheable}, for callers of
+ * {@link TieredCacheAspect#getOrLoad} that keep their own L1 and so cannot use the annotation.
+ */
+public record TieredCacheSpec(long redisTtlSeconds, long nullTtlSeconds, TieredLockPolicy lockPolicy,
+                              String lockKeyPrefix, long lockWaitMillis, long lockLeaseMillis) {
+
+    static TieredCacheSpec of(TieredCacheable tieredCacheable) {
+        return new TieredCacheSpec(tieredCacheable.redisTtlSeconds(), tieredCacheable.nullTtlSeconds(),
+                tieredCacheable.lockPolicy(), tieredCacheable.lockKeyPrefix(),
+                tieredCacheable.lockWaitMillis(), tieredCacheable.lockLeaseMillis());
+    }
+}
@@ -0,0 +1,60 @@
+package com.xxxx.ddd.infrastructure.cache.tiered;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the result of a method in two tiers: Guava local cache (L1) → Redis (L2),
+ * with an optional lock guarding the underlying source (DB) on a double miss.
+ *
+ * <pre>
+ * &#64;TieredCacheable(cacheName = "ticketDetail", key = "'PRO_TICKET:TIERED:ITEM' + #p0")
+ * public TicketDetail getTicketDetail(Long id) { ... }
+ * </pre>
+ *
+ * The method must be called through the Spring proxy (not from the same class).
+ * A {@code null} result is cached as well (for {@link #nullTtlSeconds()}) to prevent cache penetration.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface TieredCacheable {
+
+    /**
+     * Logical cache name; one L1 cache is created per name.
+     * Methods sharing a name must use the same L1 settings.
+     */
+    String cacheName();
+
+    /**
+     * SpEL expression for the cache key, evaluated against the method arguments
+     * ({@code #p0}, {@code #p1} ... or parameter names when compiled with {@code -parameters}).
+     * The resolved value is used as-is for the Redis key and the L1 key.
+     */
+    String key();
+
+    // L1 - Guava
+    long localMaxSize() default 10_000;
+
+    long localTtlSeconds() default 600;
+
+    // L2 - Redis
+    long redisTtlSeconds() default 3600;
+
+    /**
+     * TTL (both tiers) used when the method returned null.
+     */
+    long nullTtlSeconds() default 60;
+
+    // Lock
+    TieredLockPolicy lockPolicy() default TieredLockPolicy.DISTRIBUTED;
+
+    String lockKeyPrefix() default "PRO_LOCK_KEY:";
+
+    long lockWaitMillis() default 1000;
+
+    long lockLeaseMillis() default 5000;
+}
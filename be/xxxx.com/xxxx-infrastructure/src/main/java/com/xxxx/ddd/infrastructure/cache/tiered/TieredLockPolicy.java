@@ -0,0 +1,18 @@
+package com.xxxx.ddd.infrastructure.cache.tiered;
+
+/**
+ * How a {@link TieredCacheable} method is protected against cache stampede
+ * once both the local (L1) and the Redis (L2) tier missed.
+ */
+public enum TieredLockPolicy {
+    /**
+     * No lock: every thread that misses both tiers calls the method (Level 1 behaviour).
+     */
+    NONE,
+    /**
+     * Redisson distributed lock + double-check of Redis (Level 2/3 behaviour).
+     * Threads that fail to acquire the lock re-read Redis once and otherwise load themselves,
+     * deduplicated per node ({@link LockedCacheLoader}).
+     */
+    DISTRIBUTED
+}
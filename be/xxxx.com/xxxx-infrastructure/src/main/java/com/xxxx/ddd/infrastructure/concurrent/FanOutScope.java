@@ -0,0 +1,82 @@
+package com.xxxx.ddd.infrastructure.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Request-scoped fan-out on virtual threads, shaped like StructuredTaskScope (a preview API in Java 25):
+ * fork branches, join each one against its own deadline (measured from the scope's start), and fall back to a
+ * default for a branch that failed or ran late. Closing the scope cancels (interrupts) every branch still running,
+ * so none outlives the request.
+ *
+ * Unlike StructuredTaskScope.close(), close() does not wait for cancelled branches: a JDBC call ignores interrupts,
+ * so blocking I/O in a branch must carry its own timeout (query timeout, Redis command timeout).
+ *
+ * Single-threaded owner: fork / join / close are called by the thread that opened the scope.
+ */
+@Slf4j
+public final class FanOutScope implements AutoCloseable {
+
+    // one new virtual thread per fork; the executor itself holds no threads
+    private static final ExecutorService VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final long startNanos = System.nanoTime();
+    private final List<Future<?>> forks = new ArrayList<>();
+    private final List<String> failed = new ArrayList<>();
+
+    public <T> Future<T> fork(Callable<T> task) {
+        Future<T> fork = VIRTUAL_THREADS.submit(task);
+        forks.add(fork);
+        return fork;
+    }
+
+    /**
+     * Wait for the branch until {@code timeoutMs} after the scope started.
+     *
+     * @return the branch result, or {@code fallback} (and the branch name is recorded in failed()) if it threw,
+     * or did not finish in time — in that case it is cancelled
+     */
+    public <T> T join(Future<T> fork, String name, long timeoutMs, T fallback) {
+        long remainingNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMs) - System.nanoTime();
+        try {
+            return fork.get(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("fan-out branch {} timed out after {} ms", name, timeoutMs);
+        } catch (ExecutionException e) {
+            log.warn("fan-out branch {} failed: {}", name, e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        fork.cancel(true);
+        failed.add(name);
+        return fallback;
+    }
+
+    /**
+     * Names of the branches that fell back, in join order.
+     */
+    public List<String> failed() {
+        return Collections.unmodifiableList(failed);
+    }
+
+    public long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public void close() {
+        for (Future<?> fork : forks) {
+            fork.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.xxxx.ddd.infrastructure.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer / single-consumer ring buffer (Disruptor-style sequences, no locks).
+ *
+ * - Producers claim a sequence with a CAS on the cursor, write the slot, then publish it by storing the sequence
+ *   in {@code published[index]} (release). A full ring rejects instead of blocking.
+ * - The single consumer reads slots in sequence order while {@code published[index] == sequence} (acquire), and
+ *   frees them in batches by advancing the consumed sequence.
+ */
+public class MpscRingBuffer<E> {
+
+    private final Object[] entries;
+    private final AtomicLongArray published;
+    private final int mask;
+
+    private final AtomicLong cursor = new AtomicLong();   // next sequence to claim
+    private final AtomicLong consumed = new AtomicLong(); // next sequence to consume (written by the consumer only)
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.entries = new Object[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return false if the ring is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long sequence;
+        do {
+            sequence = cursor.get();
+            if (sequence - consumed.get() >= entries.length) {
+                return false;
+            }
+        } while (!cursor.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) sequence & mask;
+        entries[index] = element;
+        published.setRelease(index, sequence);
+        return true;
+    }
+
+    /**
+     * Consumer only: hand up to {@code limit} published elements to the handler, in sequence order.
+     *
+     * @return number of elements handled
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<E> handler, int limit) {
+        long sequence = consumed.get();
+        int count = 0;
+        try {
+            while (count < limit) {
+                int index = (int) sequence & mask;
+                if (published.getAcquire(index) != sequence) {
+                    break; // not claimed yet, or claimed but not yet written
+                }
+                E element = (E) entries[index];
+                entries[index] = null;
+                sequence++;
+                count++;
+                handler.accept(element);
+            }
+        } finally {
+            consumed.setRelease(sequence);
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return consumed.get() == cursor.get();
+    }
+
+    public int size() {
+        return (int) Math.max(0, cursor.get() - consumed.get());
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+}
@@ -0,0 +1,102 @@
+package com.xxxx.ddd.infrastructure.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * One platform thread that owns some state and applies events to it from an MpscRingBuffer, in order.
+ * The handler runs on that thread only, so the state it touches needs no locks; it must never block.
+ *
+ * Idle strategy: spin, then yield, then park (woken by the next offer) — low latency under load without
+ * burning a core while idle.
+ */
+@Slf4j
+public class SingleWriterLoop<E> {
+
+    private static final int DRAIN_LIMIT = 256;
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final MpscRingBuffer<E> ring;
+    private final Consumer<E> handler;
+    private final Thread thread;
+
+    private volatile boolean running = true;
+    private volatile boolean parked;
+
+    public SingleWriterLoop(String name, int capacity, Consumer<E> handler) {
+        this.ring = new MpscRingBuffer<>(capacity);
+        this.handler = handler;
+        this.thread = new Thread(this::run, name);
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * @return false if the ring is full or the loop is stopped
+     */
+    public boolean offer(E event) {
+        if (!running || !ring.offer(event)) {
+            return false;
+        }
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    public boolean inLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    public int backlog() {
+        return ring.size();
+    }
+
+    /**
+     * Stop accepting events, apply the ones already queued, and wait for the thread to end.
+     */
+    public void stop(long timeout, TimeUnit unit) throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(unit.toMillis(timeout));
+    }
+
+    private void run() {
+        int idle = 0;
+        while (running || !ring.isEmpty()) {
+            int handled = ring.drain(this::handle, DRAIN_LIMIT);
+            if (handled > 0) {
+                idle = 0;
+            } else if (idle < SPIN_TRIES) {
+                idle++;
+                Thread.onSpinWait();
+            } else if (idle < SPIN_TRIES + YIELD_TRIES) {
+                idle++;
+                Thread.yield();
+            } else {
+                parked = true;
+                if (ring.isEmpty() && running) { // re-check after publishing "parked": no lost wake-up
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                parked = false;
+            }
+        }
+    }
+
+    private void handle(E event) {
+        try {
+            handler.accept(event);
+        } catch (Exception e) {
+            // one bad event must not kill the owner thread
+            log.error("{}: event failed: {}", thread.getName(), e.getMessage(), e);
+        }
+    }
+}
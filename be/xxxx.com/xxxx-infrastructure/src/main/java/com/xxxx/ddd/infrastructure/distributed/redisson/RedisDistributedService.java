@@ -2,4 +2,10 @@ package com.xxxx.ddd.infrastructure.distributed.redisson;
 
 public interface RedisDistributedService {
     RedisDistributedLocker getDistributedLock(String lockKey);
+
+    /**
+     * false while the Redisson circuit breaker is open: tryLock fails fast, callers should fall back
+     * to an in-JVM guard (e.g. SingleFlight) instead of the distributed lock.
+     */
+    boolean isAvailable();
 }
@@ -9,13 +9,32 @@ import org.springframework.beans.factory.annotation.Value;
 
 @Configuration
 public class RedissonConfig {
-    @Value("redis://127.0.0.1:6399")
+    @Value("${redisson.address:redis://127.0.0.1:6399}")
     private String redisAddress;
 
+    // true: Redisson.create() returns immediately, connections are opened on the first lock call
+    // instead of during startup (pods become ready without waiting for Redis)
+    @Value("${redisson.lazy-initialization:true}")
+    private boolean lazyInitialization;
+
+    // fail fast when Redis is down (default: 10s connect, 3s timeout x 4 attempts)
+    @Value("${redisson.connect-timeout:1000}")
+    private int connectTimeout;
+
+    @Value("${redisson.timeout:500}")
+    private int timeout;
+
+    @Value("${redisson.retry-attempts:1}")
+    private int retryAttempts;
+
     @Bean
     public RedissonClient redissonClient() {
         Config config = new Config();
-        config.useSingleServer().setAddress(redisAddress).setConnectionPoolSize(50).setDatabase(0);
+        config.setLazyInitialization(lazyInitialization);
+        config.useSingleServer().setAddress(redisAddress).setConnectionPoolSize(50).setDatabase(0)
+                .setConnectTimeout(connectTimeout)
+                .setTimeout(timeout)
+                .setRetryAttempts(retryAttempts);
         return Redisson.create(config);
     }
 }
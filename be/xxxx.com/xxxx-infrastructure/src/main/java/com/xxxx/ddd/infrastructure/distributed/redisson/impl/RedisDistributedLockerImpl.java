@@ -2,6 +2,13 @@ package com.xxxx.ddd.infrastructure.distributed.redisson.impl;
 
 import com.xxxx.ddd.infrastructure.distributed.redisson.RedisDistributedLocker;
 import com.xxxx.ddd.infrastructure.distributed.redisson.RedisDistributedService;
+import com.xxxx.ddd.infrastructure.jfr.DistributedLockAcquireEvent;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
@@ -10,12 +17,38 @@ import org.springframework.stereotype.Service;
 
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Lock calls go through the "redisLock" circuit breaker: when Redisson's Redis is unreachable,
+ * tryLock returns false immediately and unlock/isLocked are no-ops.
+ * tryLock is observed as ticket.layer{layer=redisson} by hand: the lockers are not Spring beans, so @Observed cannot apply.
+ */
 @Service
 @Slf4j
 public class RedisDistributedLockerImpl implements RedisDistributedService {
     @Resource
     private RedissonClient redissonClient;
 
+    @Resource
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Resource
+    private ObservationRegistry observationRegistry;
+
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void init() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("redisLock");
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Redisson lock circuit breaker: {}", event.getStateTransition()));
+    }
+
+    @Override
+    public boolean isAvailable() {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state != CircuitBreaker.State.OPEN && state != CircuitBreaker.State.FORCED_OPEN;
+    }
+
     @Override
     public RedisDistributedLocker getDistributedLock(String lockKey) {
         RLock rLock = redissonClient.getLock(lockKey);
@@ -23,8 +56,43 @@ public class RedisDistributedLockerImpl implements RedisDistributedService {
         return new RedisDistributedLocker() {
             @Override
             public boolean tryLock(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
-                boolean isLockSuccess = rLock.tryLock(waitTime, leaseTime, unit);
-                log.info("{} get lock result:{}", lockKey, isLockSuccess);
+                // same name and tag keys as the @Observed layers (Prometheus needs one tag set per metric name)
+                Observation observation = Observation.createNotStarted("ticket.layer", observationRegistry)
+                        .contextualName("RedisDistributedLocker#tryLock")
+                        .lowCardinalityKeyValue("layer", "redisson")
+                        .lowCardinalityKeyValue("class", RedisDistributedLocker.class.getName())
+                        .lowCardinalityKeyValue("method", "tryLock")
+                        .start();
+                try (Observation.Scope scope = observation.openScope()) {
+                    return acquire(waitTime, leaseTime, unit);
+                } catch (InterruptedException | RuntimeException e) {
+                    observation.error(e);
+                    throw e;
+                } finally {
+                    observation.stop();
+                }
+            }
+
+            private boolean acquire(long waitTime, long leaseTime, TimeUnit unit) throws InterruptedException {
+                DistributedLockAcquireEvent event = new DistributedLockAcquireEvent();
+                event.begin();
+                boolean isLockSuccess;
+                try {
+                    isLockSuccess = circuitBreaker.executeCallable(() -> rLock.tryLock(waitTime, leaseTime, unit));
+                } catch (InterruptedException e) {
+                    event.finish(lockKey, unit.toMillis(waitTime), DistributedLockAcquireEvent.INTERRUPTED);
+                    throw e;
+                } catch (CallNotPermittedException e) {
+                    event.finish(lockKey, unit.toMillis(waitTime), DistributedLockAcquireEvent.CIRCUIT_OPEN);
+                    return false;
+                } catch (Exception e) {
+                    event.finish(lockKey, unit.toMillis(waitTime), DistributedLockAcquireEvent.ERROR);
+                    log.error("{} tryLock error:{}", lockKey, e.getMessage());
+                    return false;
+                }
+                event.finish(lockKey, unit.toMillis(waitTime),
+                        isLockSuccess ? DistributedLockAcquireEvent.ACQUIRED : DistributedLockAcquireEvent.TIMEOUT);
+                log.debug("{} get lock result:{}", lockKey, isLockSuccess);
                 return isLockSuccess;
             }
 
@@ -42,7 +110,15 @@ public class RedisDistributedLockerImpl implements RedisDistributedService {
 
             @Override
             public boolean isLocked() {
-                return rLock.isLocked();
+                if (!isAvailable()) {
+                    return false;
+                }
+                try {
+                    return rLock.isLocked();
+                } catch (Exception e) {
+                    log.error("{} isLocked error:{}", lockKey, e.getMessage());
+                    return false;
+                }
             }
 
             @Override
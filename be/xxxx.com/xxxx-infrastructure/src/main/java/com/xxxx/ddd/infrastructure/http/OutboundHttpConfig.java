@@ -0,0 +1,66 @@
+package com.xxxx.ddd.infrastructure.http;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Shared outbound HTTP layer: one pooled Apache HttpClient 5 (keep-alive, per-host limits, timeouts)
+ * behind the application's RestTemplate. Replaces `new RestTemplate()` (un-pooled HttpURLConnection).
+ */
+@Configuration
+@EnableConfigurationProperties(OutboundHttpProperties.class)
+public class OutboundHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager outboundConnectionManager(OutboundHttpProperties props) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(props.getMaxTotal())
+                .setMaxConnPerRoute(props.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(props.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(props.getResponseTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        // per-host limits (both schemes, default ports)
+        props.getMaxPerHost().forEach((host, max) -> {
+            connectionManager.setMaxPerRoute(new HttpRoute(new HttpHost("https", host, 443)), max);
+            connectionManager.setMaxPerRoute(new HttpRoute(new HttpHost("http", host, 80)), max);
+        });
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient(PoolingHttpClientConnectionManager outboundConnectionManager,
+                                                  OutboundHttpProperties props) {
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(props.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(props.getResponseTimeout()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(props.getKeepAlive()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(props.getEvictIdleAfter()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient outboundHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(outboundHttpClient));
+    }
+}
@@ -0,0 +1,38 @@
+package com.xxxx.ddd.infrastructure.http;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of the shared outbound HTTP client (prefix "outbound.http").
+ */
+@Data
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+    // pool
+    private int maxTotal = 200;
+    private int maxPerRoute = 50;
+    /**
+     * Per-host override of maxPerRoute, e.g. outbound.http.max-per-host.[fakestoreapi.com]=20
+     */
+    private Map<String, Integer> maxPerHost = new HashMap<>();
+
+    // timeouts (millis)
+    private long connectTimeout = 1_000;
+    private long connectionRequestTimeout = 500; // wait for a free pooled connection
+    private long responseTimeout = 3_000;
+
+    // keep-alive / idle (millis)
+    private long keepAlive = 30_000;
+    private long evictIdleAfter = 60_000;
+
+    /**
+     * TTL of the GET response cache; 0 disables it.
+     */
+    private long cacheTtl = 0;
+    private long cacheMaxSize = 1_000;
+}
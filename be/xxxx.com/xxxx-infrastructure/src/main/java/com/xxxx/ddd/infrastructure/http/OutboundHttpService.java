@@ -0,0 +1,15 @@
+package com.xxxx.ddd.infrastructure.http;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface OutboundHttpService {
+    /**
+     * GET through the pooled client; served from the short-TTL cache when enabled (outbound.http.cache-ttl).
+     */
+    String get(String url);
+
+    /**
+     * Same as {@link #get(String)} on a virtual thread.
+     */
+    CompletableFuture<String> getAsync(String url);
+}
@@ -0,0 +1,58 @@
+package com.xxxx.ddd.infrastructure.http;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class OutboundHttpServiceImpl implements OutboundHttpService {
+
+    private final RestTemplate restTemplate;
+    private final Cache<String, String> responseCache; // null when disabled
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired
+    public OutboundHttpServiceImpl(RestTemplate restTemplate, OutboundHttpProperties props) {
+        this.restTemplate = restTemplate;
+        this.responseCache = props.getCacheTtl() <= 0 ? null : CacheBuilder.newBuilder()
+                .maximumSize(props.getCacheMaxSize())
+                .expireAfterWrite(props.getCacheTtl(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Override
+    public String get(String url) {
+        if (responseCache != null) {
+            String cached = responseCache.getIfPresent(url);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String body = restTemplate.getForObject(url, String.class);
+        if (responseCache != null && body != null) {
+            responseCache.put(url, body);
+        }
+        return body;
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(String url) {
+        return CompletableFuture.supplyAsync(() -> get(url), executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,13 @@
+package com.xxxx.ddd.infrastructure.id;
+
+public interface IdGenerator {
+    /**
+     * Unique, time-ordered 64-bit id. No I/O: safe to call on the request thread before anything is persisted.
+     *
+     * @throws IllegalStateException if this node holds no valid worker id (lease lost and not renewed)
+     */
+    long nextId();
+
+    // worker id embedded in the ids of this node, -1 while none is held
+    long getWorkerId();
+}
@@ -0,0 +1,224 @@
+package com.xxxx.ddd.infrastructure.id;
+
+import com.xxxx.ddd.infrastructure.cache.redis.RedisInfrasService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake layout: [1 bit 0][41 bits ms since 2024-01-01 (~69 years)][10 bits worker id][12 bits sequence]
+ * → 4096 ids / ms / node, ids sort by creation time.
+ *
+ * Worker id: leased from Redis (ID:WORKER:{n}, SET NX + TTL, renewed every ttl/3 by a Lua compare-and-expire).
+ * Each renewal saves the highest timestamp this node can reach before the lease lapses (ID:WORKER:LAST_TS:{n});
+ * a node taking the id over waits until its clock passes it, so a node with a clock behind never re-issues ids.
+ *
+ * Generation is one CAS on an AtomicLong holding (timestamp << 12 | sequence):
+ * - clock moved backwards → keep using the last timestamp (logical clock), up to max-backward-ms, then fail
+ * - sequence exhausted in a ms → borrow the next ms; if the logical clock gets max-drift-ms ahead, spin until wall clock catches up
+ * - lease not renewed in time (Redis unreachable past the TTL) → fail instead of risking another node reusing the id
+ */
+@Component
+@Slf4j
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    public static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    public static final int WORKER_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    private static final int MAX_WORKERS = 1 << WORKER_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // KEYS[1] = worker key, KEYS[2] = last ts key; ARGV[1] = token, ARGV[2] = ttl ms, ARGV[3] = last ts
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('SET', KEYS[2], ARGV[3]) " +
+            "return 1 end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1] = worker key; ARGV[1] = token
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    @Resource
+    private RedisInfrasService redisInfrasService;
+
+    @Value("${id.snowflake.lease-ttl-ms:30000}")
+    private long leaseTtlMs;
+
+    @Value("${id.snowflake.max-backward-ms:5000}")
+    private long maxBackwardMs;
+
+    @Value("${id.snowflake.max-drift-ms:1000}")
+    private long maxDriftMs;
+
+    private final String token = UUID.randomUUID().toString();
+    private final AtomicLong state = new AtomicLong();
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "snowflake-lease");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile long workerId = -1;
+    private volatile long leaseDeadline;
+
+    @PostConstruct
+    public void init() {
+        if (!acquireLease()) {
+            log.error("No snowflake worker id available, nextId() fails until a lease is acquired");
+        }
+        renewer.scheduleWithFixedDelay(this::renewLease, leaseTtlMs / 3, leaseTtlMs / 3, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long nextId() {
+        long worker = workerId;
+        if (worker < 0 || System.currentTimeMillis() > leaseDeadline) {
+            throw new IllegalStateException("snowflake worker lease not held");
+        }
+
+        while (true) {
+            long now = System.currentTimeMillis() - EPOCH;
+            long current = state.get();
+            long timestamp = current >>> SEQUENCE_BITS;
+            long next;
+
+            if (now > timestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                if (timestamp - now > maxBackwardMs) {
+                    throw new IllegalStateException("clock moved backwards by " + (timestamp - now) + " ms");
+                }
+                if ((current & SEQUENCE_MASK) == SEQUENCE_MASK) {
+                    if (timestamp - now >= maxDriftMs) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    next = (timestamp + 1) << SEQUENCE_BITS;
+                } else {
+                    next = current + 1;
+                }
+            }
+
+            if (state.compareAndSet(current, next)) {
+                return ((next >>> SEQUENCE_BITS) << (WORKER_BITS + SEQUENCE_BITS))
+                        | (worker << SEQUENCE_BITS)
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    @Override
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    // smallest id any worker can generate at epochMillis
+    public static long minIdAt(long epochMillis) {
+        return (epochMillis - EPOCH) << (WORKER_BITS + SEQUENCE_BITS);
+    }
+
+    // scan from a random worker id so starting nodes do not all race for 0
+    private boolean acquireLease() {
+        int start = ThreadLocalRandom.current().nextInt(MAX_WORKERS);
+        for (int i = 0; i < MAX_WORKERS; i++) {
+            int candidate = (start + i) % MAX_WORKERS;
+            if (redisInfrasService.setObjectIfAbsent(getWorkerKey(candidate), token, leaseTtlMs, TimeUnit.MILLISECONDS)) {
+                String lastTimestamp = redisInfrasService.getString(getLastTimestampKey(candidate));
+                long now = System.currentTimeMillis() - EPOCH;
+                long ahead = lastTimestamp == null ? 0 : Long.parseLong(lastTimestamp) + 1 - now;
+                if (ahead > leaseTtlMs / 2) {
+                    // too far ahead to wait within our own lease: leave this id and try the next one
+                    redisInfrasService.executeScript(RELEASE_SCRIPT, List.of(getWorkerKey(candidate)), token);
+                    continue;
+                }
+                if (ahead > 0) {
+                    // previous holder's clock was ahead of ours: wait it out instead of issuing ids it may have used
+                    log.warn("Snowflake worker id {}: previous holder was {} ms ahead, waiting", candidate, ahead);
+                    sleepQuietly(ahead);
+                    now += ahead;
+                }
+                state.set(now << SEQUENCE_BITS);
+                leaseDeadline = System.currentTimeMillis() + leaseTtlMs;
+                workerId = candidate;
+                log.info("Snowflake worker id {} leased (token {})", candidate, token);
+                return true;
+            }
+            if (!redisInfrasService.isAvailable()) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void renewLease() {
+        try {
+            if (workerId < 0) {
+                acquireLease();
+                return;
+            }
+            long renewedAt = System.currentTimeMillis();
+            Long renewed = redisInfrasService.executeScript(RENEW_SCRIPT,
+                    List.of(getWorkerKey(workerId), getLastTimestampKey(workerId)),
+                    // highest timestamp this node can reach before the lease lapses
+                    token, leaseTtlMs, (state.get() >>> SEQUENCE_BITS) + leaseTtlMs + maxDriftMs);
+            if (renewed == null) {
+                // Redis unreachable: keep the current deadline, nextId() stops at leaseDeadline
+                log.warn("Snowflake lease renewal failed for worker {}, valid until {}", workerId, leaseDeadline);
+                return;
+            }
+            if (renewed == 0) {
+                // expired and possibly taken by another node
+                log.error("Snowflake lease for worker {} lost, acquiring a new one", workerId);
+                workerId = -1;
+                acquireLease();
+                return;
+            }
+            leaseDeadline = renewedAt + leaseTtlMs;
+        } catch (Exception e) {
+            log.error("Snowflake lease renewal error: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        renewer.shutdownNow();
+        if (workerId >= 0) {
+            redisInfrasService.setObject(getLastTimestampKey(workerId), (state.get() >>> SEQUENCE_BITS) + 1);
+            redisInfrasService.executeScript(RELEASE_SCRIPT, List.of(getWorkerKey(workerId)), token);
+            log.info("Snowflake worker id {} released", workerId);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String getWorkerKey(long workerId) {
+        return "ID:WORKER:" + workerId;
+    }
+
+    private String getLastTimestampKey(long workerId) {
+        return "ID:WORKER:LAST_TS:" + workerId;
+    }
+}
@@ -0,0 +1,45 @@
+package com.xxxx.ddd.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * One Redisson tryLock: the event duration is the time actually spent waiting, waitTime the allowed maximum.
+ * Stack trace kept (default) so contended locks can be traced back to their caller.
+ */
+@Name("com.xxxx.DistributedLockAcquire")
+@Label("Distributed Lock Acquire")
+@Category({"xxxx", "Lock"})
+@Description("Redisson tryLock: wait time and result")
+public class DistributedLockAcquireEvent extends Event {
+
+    public static final String ACQUIRED = "ACQUIRED";
+    public static final String TIMEOUT = "TIMEOUT";
+    public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+    public static final String ERROR = "ERROR";
+    public static final String INTERRUPTED = "INTERRUPTED";
+
+    @Label("Lock Key")
+    String lockKey;
+
+    @Label("Max Wait Time")
+    @Timespan(Timespan.MILLISECONDS)
+    long waitTime;
+
+    @Label("Result")
+    String result;
+
+    public void finish(String lockKey, long waitTimeMillis, String result) {
+        end();
+        if (shouldCommit()) {
+            this.lockKey = lockKey;
+            this.waitTime = waitTimeMillis;
+            this.result = result;
+            commit();
+        }
+    }
+}
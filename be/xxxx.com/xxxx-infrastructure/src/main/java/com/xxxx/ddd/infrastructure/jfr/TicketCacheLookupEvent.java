@@ -0,0 +1,54 @@
+package com.xxxx.ddd.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One ticket detail cache read at one tier. Usage:
+ * <pre>
+ * TicketCacheLookupEvent event = new TicketCacheLookupEvent();
+ * event.begin();
+ * ... lookup ...
+ * event.finish(id, TicketCacheLookupEvent.TIER_REDIS, value != null);
+ * </pre>
+ * Without a running recording the event is disabled: begin/finish are a few checks and the JIT
+ * removes the allocation; fields are only written when the event is actually committed.
+ */
+@Name("com.xxxx.TicketCacheLookup")
+@Label("Ticket Cache Lookup")
+@Category({"xxxx", "Ticket"})
+@Description("Ticket detail cache read: tier and hit/miss")
+@StackTrace(false)
+public class TicketCacheLookupEvent extends Event {
+
+    public static final String TIER_L1 = "L1";
+    public static final String TIER_L1_OFFHEAP = "L1_OFFHEAP";
+    public static final String TIER_STALE = "STALE";
+    public static final String TIER_REDIS = "REDIS";
+    public static final String TIER_LOGICAL_L1 = "LOGICAL_L1";
+    public static final String TIER_LOGICAL_REDIS = "LOGICAL_REDIS";
+
+    @Label("Ticket Item Id")
+    long ticketId;
+
+    @Label("Tier")
+    String tier;
+
+    @Label("Outcome")
+    @Description("HIT or MISS")
+    String outcome;
+
+    public void finish(long ticketId, String tier, boolean hit) {
+        end();
+        if (shouldCommit()) {
+            this.ticketId = ticketId;
+            this.tier = tier;
+            this.outcome = hit ? "HIT" : "MISS";
+            commit();
+        }
+    }
+}
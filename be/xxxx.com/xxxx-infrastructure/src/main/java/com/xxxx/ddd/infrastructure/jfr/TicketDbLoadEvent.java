@@ -0,0 +1,44 @@
+package com.xxxx.ddd.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Ticket detail loaded from MySQL because every cache tier missed; source = which read path paid for it.
+ */
+@Name("com.xxxx.TicketDbLoad")
+@Label("Ticket DB Load")
+@Category({"xxxx", "Ticket"})
+@Description("Ticket detail loaded from the database after a cache miss")
+@StackTrace(false)
+public class TicketDbLoadEvent extends Event {
+
+    public static final String SOURCE_NORMAL = "NORMAL";
+    public static final String SOURCE_LOCKED = "LOCKED";
+    public static final String SOURCE_DEGRADED = "DEGRADED";
+    public static final String SOURCE_LOGICAL_REBUILD = "LOGICAL_REBUILD";
+    public static final String SOURCE_TIERED = "TIERED";
+
+    @Label("Ticket Item Id")
+    long ticketId;
+
+    @Label("Source")
+    String source;
+
+    @Label("Found")
+    boolean found;
+
+    public void finish(long ticketId, String source, boolean found) {
+        end();
+        if (shouldCommit()) {
+            this.ticketId = ticketId;
+            this.source = source;
+            this.found = found;
+            commit();
+        }
+    }
+}
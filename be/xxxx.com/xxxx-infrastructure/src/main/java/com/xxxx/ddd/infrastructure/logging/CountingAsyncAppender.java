@@ -0,0 +1,33 @@
+package com.xxxx.ddd.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * AsyncAppender that counts what it drops instead of losing it silently:
+ * - discarded: queue above discardingThreshold, TRACE/DEBUG/INFO event (WARN/ERROR are kept)
+ * - queueFull: neverBlock and no room left
+ * Counts are approximate: capacity is read just before the enqueue, another thread may take the last slot.
+ * Exported by LoggingMetrics as logging.events.dropped{appender, reason}.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    @Override
+    public void start() {
+        super.start();
+        LogEventCounters.registerAsyncAppender(this);
+        LogEventCounters.queueFull(getName());
+        LogEventCounters.discarded(getName());
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if (remaining < getDiscardingThreshold() && isDiscardable(event)) {
+            LogEventCounters.discarded(getName()).increment();
+        } else if (remaining == 0 && isNeverBlock()) {
+            LogEventCounters.queueFull(getName()).increment();
+        }
+        super.append(event);
+    }
+}
@@ -0,0 +1,56 @@
+package com.xxxx.ddd.infrastructure.logging;
+
+import ch.qos.logback.core.AsyncAppenderBase;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters shared between the logback components (created by logback, before the Spring context) and
+ * LoggingMetrics (Spring bean, exports them). Keys are appender names / sampling rule prefixes, a handful each.
+ */
+public final class LogEventCounters {
+
+    private static final Map<String, LongAdder> QUEUE_FULL = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> DISCARDED = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> SAMPLED_OUT = new ConcurrentHashMap<>();
+    private static final Map<String, AsyncAppenderBase<?>> ASYNC_APPENDERS = new ConcurrentHashMap<>();
+
+    private LogEventCounters() {
+    }
+
+    // neverBlock appender, queue full: the event is dropped
+    static LongAdder queueFull(String appender) {
+        return QUEUE_FULL.computeIfAbsent(appender, k -> new LongAdder());
+    }
+
+    // queue above the discarding threshold: TRACE/DEBUG/INFO dropped to keep room for WARN/ERROR
+    static LongAdder discarded(String appender) {
+        return DISCARDED.computeIfAbsent(appender, k -> new LongAdder());
+    }
+
+    static LongAdder sampledOut(String rule) {
+        return SAMPLED_OUT.computeIfAbsent(rule, k -> new LongAdder());
+    }
+
+    static void registerAsyncAppender(AsyncAppenderBase<?> appender) {
+        ASYNC_APPENDERS.put(appender.getName(), appender);
+    }
+
+    public static Map<String, LongAdder> queueFullCounters() {
+        return QUEUE_FULL;
+    }
+
+    public static Map<String, LongAdder> discardedCounters() {
+        return DISCARDED;
+    }
+
+    public static Map<String, LongAdder> sampledOutCounters() {
+        return SAMPLED_OUT;
+    }
+
+    public static Map<String, AsyncAppenderBase<?>> asyncAppenders() {
+        return ASYNC_APPENDERS;
+    }
+}
@@ -0,0 +1,42 @@
+package com.xxxx.ddd.infrastructure.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Exports LogEventCounters (logback is configured before the context, so all appenders / rules exist by now):
+ * - logging.events.dropped{appender, reason = queue_full | discarded}
+ * - logging.events.sampled.out{rule}
+ * - logging.async.queue.remaining{appender}
+ * Events per level are already counted by Spring Boot's logback.events.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        LogEventCounters.queueFullCounters().forEach((appender, counter) -> dropped(registry, appender, "queue_full", counter));
+        LogEventCounters.discardedCounters().forEach((appender, counter) -> dropped(registry, appender, "discarded", counter));
+        LogEventCounters.sampledOutCounters().forEach((rule, counter) ->
+                FunctionCounter.builder("logging.events.sampled.out", counter, LongAdder::sum)
+                        .description("Log events dropped by SamplingTurboFilter")
+                        .tag("rule", rule)
+                        .register(registry));
+        LogEventCounters.asyncAppenders().forEach((appender, async) ->
+                Gauge.builder("logging.async.queue.remaining", async, a -> a.getRemainingCapacity())
+                        .tag("appender", appender)
+                        .register(registry));
+    }
+
+    private static void dropped(MeterRegistry registry, String appender, String reason, LongAdder counter) {
+        FunctionCounter.builder("logging.events.dropped", counter, LongAdder::sum)
+                .description("Log events dropped by an async appender")
+                .tags("appender", appender, "reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,84 @@
+package com.xxxx.ddd.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-logger sampling of TRACE/DEBUG/INFO, configured in logback-spring.xml:
+ * <pre>
+ * &lt;turboFilter class="com.xxxx.ddd.infrastructure.logging.SamplingTurboFilter"&gt;
+ *     &lt;sample&gt;com.xxxx.ddd.application.service.ticket.cache=0.01&lt;/sample&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ * A rule applies to the logger of that name and its children; the longest prefix wins. Rate 0 = drop all, 1 = keep all.
+ * WARN and ERROR are never sampled.
+ *
+ * Turbo filters run before the LoggingEvent is created and before the message is formatted, so a sampled-out
+ * line costs one map lookup and a random number. isXxxEnabled() checks (format == null) are not sampled,
+ * otherwise a guarded log line would be sampled twice.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private record Rule(String prefix, double rate, LongAdder sampledOut) {
+    }
+
+    private static final Rule NO_RULE = new Rule("", 1.0, new LongAdder());
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Rule> ruleByLogger = new ConcurrentHashMap<>();
+
+    // <sample>logger.prefix=rate</sample>, may be repeated
+    public void addSample(String spec) {
+        int separator = spec.lastIndexOf('=');
+        if (separator <= 0) {
+            addError("Invalid sample '" + spec + "', expected logger=rate");
+            return;
+        }
+        String prefix = spec.substring(0, separator).trim();
+        double rate = Double.parseDouble(spec.substring(separator + 1).trim());
+        rules.add(new Rule(prefix, Math.max(0, Math.min(1, rate)), LogEventCounters.sampledOut(prefix)));
+        rules.sort(Comparator.comparingInt((Rule r) -> r.prefix().length()).reversed());
+        ruleByLogger.clear();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level == null || level.levelInt > Level.INFO_INT || !isStarted()) {
+            return FilterReply.NEUTRAL;
+        }
+        Rule rule = ruleByLogger.computeIfAbsent(logger.getName(), this::match);
+        if (rule == NO_RULE || rule.rate() >= 1.0) {
+            return FilterReply.NEUTRAL;
+        }
+        // below the logger's level it would not be logged anyway: not counted as sampled out
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (rule.rate() <= 0 || ThreadLocalRandom.current().nextDouble() >= rule.rate()) {
+            rule.sampledOut().increment();
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private Rule match(String loggerName) {
+        for (Rule rule : rules) {
+            if (loggerName.equals(rule.prefix())
+                    || (loggerName.startsWith(rule.prefix()) && loggerName.charAt(rule.prefix().length()) == '.')) {
+                return rule;
+            }
+        }
+        return NO_RULE;
+    }
+}
@@ -0,0 +1,91 @@
+package com.xxxx.ddd.infrastructure.persistence.event;
+
+import com.xxxx.ddd.domain.model.entity.Ticket;
+import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Hibernate post-commit listeners → EntityChangedEvent, for the entities other components keep derived state of
+ * (search index). Only WATCHED types ask Hibernate for post-commit handling, so batched order inserts pay nothing.
+ * Runs on the committing thread: handlers must be quick and must not throw.
+ */
+@Component
+@Slf4j
+public class EntityChangeEventBridge implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Set<Class<?>> WATCHED = Set.of(Ticket.class, TicketDetail.class);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        log.info("Entity change events enabled for {}", WATCHED.stream().map(Class::getSimpleName).toList());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return WATCHED.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId(), EntityChangedEvent.Kind.INSERT);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId(), EntityChangedEvent.Kind.UPDATE);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId(), EntityChangedEvent.Kind.DELETE);
+    }
+
+    // rolled back: nothing changed
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void publish(EntityPersister persister, Object id, EntityChangedEvent.Kind kind) {
+        try {
+            eventPublisher.publishEvent(new EntityChangedEvent(persister.getMappedClass(), id, kind));
+        } catch (Exception e) {
+            log.warn("Entity change handler failed for {}#{}: {}", persister.getMappedClass().getSimpleName(), id, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.xxxx.ddd.infrastructure.persistence.event;
+
+/**
+ * Published (Spring event) after a transaction that inserted, updated or deleted a watched entity has committed.
+ * Bulk JPQL/native updates bypass Hibernate events and are not reported.
+ */
+public record EntityChangedEvent(Class<?> entityType, Object id, Kind kind) {
+
+    public enum Kind {
+        INSERT, UPDATE, DELETE
+    }
+}
@@ -1,12 +1,66 @@
 package com.xxxx.ddd.infrastructure.persistence.mapper;
 
 import com.xxxx.ddd.domain.model.entity.TicketDetail;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TicketDetailJPAMapper extends JpaRepository<TicketDetail, Long> {
     Optional<TicketDetail> findById(Long id);
+
+    // served by idx_activity_id; statement timeout bounds a page branch that was abandoned
+    @QueryHints(@QueryHint(name = "jakarta.persistence.query.timeout", value = "1000"))
+    List<TicketDetail> findByActivityId(Long activityId);
+
+    // keyset page, ids only: index-only scan on idx_status_start_time (status, sale_start_time, id)
+    @Query("select t.id from TicketDetail t where t.status = :status " +
+            "and t.saleStartTime >= :from and t.saleStartTime < :to " +
+            "and (t.saleStartTime > :afterStart or (t.saleStartTime = :afterStart and t.id > :afterId)) " +
+            "order by t.saleStartTime, t.id")
+    List<Long> findPageIdsByStatus(@Param("status") int status, @Param("from") Date from, @Param("to") Date to,
+                                   @Param("afterStart") Date afterStart, @Param("afterId") long afterId, Limit limit);
+
+    // same without status: index-only scan on idx_start_time (sale_start_time, id)
+    @Query("select t.id from TicketDetail t where t.saleStartTime >= :from and t.saleStartTime < :to " +
+            "and (t.saleStartTime > :afterStart or (t.saleStartTime = :afterStart and t.id > :afterId)) " +
+            "order by t.saleStartTime, t.id")
+    List<Long> findPageIds(@Param("from") Date from, @Param("to") Date to,
+                           @Param("afterStart") Date afterStart, @Param("afterId") long afterId, Limit limit);
+
+    // served by idx_start_time / idx_end_time
+    @Query("select t from TicketDetail t where (t.saleStartTime >= :from and t.saleStartTime < :to) " +
+            "or (t.saleEndTime >= :from and t.saleEndTime < :to)")
+    List<TicketDetail> findSaleWindowsBetween(@Param("from") Date from, @Param("to") Date to);
+
+    // status behind its window: idx_status_start_time for the first branch, idx_end_time for the second
+    @Query("select t from TicketDetail t where (t.status = 0 and t.saleStartTime <= :now) " +
+            "or (t.status = 1 and t.saleEndTime <= :now)")
+    List<TicketDetail> findMissedSaleTransitions(@Param("now") Date now);
+
+    @Modifying
+    @Transactional
+    // bulk update bypasses @Version: bump it here so ETags / cached responses change
+    @Query("update TicketDetail t set t.status = :status, t.version = t.version + 1 where t.id = :id and t.status <> :status")
+    int updateStatus(@Param("id") Long id, @Param("status") int status);
+
+    // served by idx_updated_at (updated_at, id)
+    @Query("select t from TicketDetail t where t.updatedAt > :afterUpdated or (t.updatedAt = :afterUpdated and t.id > :afterId) " +
+            "order by t.updatedAt, t.id")
+    List<TicketDetail> findUpdatedAfter(@Param("afterUpdated") Date afterUpdated, @Param("afterId") long afterId, Limit limit);
+
+    // [id, version] only — PK lookups, no entity hydration
+    @Query("select t.id, t.version from TicketDetail t where t.id in :ids")
+    List<Object[]> findVersions(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,28 @@
+package com.xxxx.ddd.infrastructure.persistence.mapper;
+
+import com.xxxx.ddd.domain.model.entity.Ticket;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TicketJPAMapper extends JpaRepository<Ticket, Long> {
+
+    // query instead of em.find so the statement timeout applies
+    @Query("select t from Ticket t where t.id = :id")
+    @QueryHints(@QueryHint(name = "jakarta.persistence.query.timeout", value = "1000"))
+    Optional<Ticket> findTicketById(@Param("id") Long id);
+
+    // served by idx_updated_at (updated_at, id)
+    @Query("select t from Ticket t where t.updatedAt > :afterUpdated or (t.updatedAt = :afterUpdated and t.id > :afterId) " +
+            "order by t.updatedAt, t.id")
+    List<Ticket> findUpdatedAfter(@Param("afterUpdated") Date afterUpdated, @Param("afterId") long afterId, Limit limit);
+}
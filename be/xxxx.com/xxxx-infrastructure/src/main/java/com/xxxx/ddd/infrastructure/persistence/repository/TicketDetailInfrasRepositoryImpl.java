@@ -3,22 +3,106 @@ package com.xxxx.ddd.infrastructure.persistence.repository;
 import com.xxxx.ddd.domain.model.entity.TicketDetail;
 import com.xxxx.ddd.domain.repository.TicketDetailRepository;
 import com.xxxx.ddd.infrastructure.persistence.mapper.TicketDetailJPAMapper;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @Slf4j
+@Observed(name = "ticket.layer", lowCardinalityKeyValues = {"layer", "infrastructure"})
 public class TicketDetailInfrasRepositoryImpl implements TicketDetailRepository {
     // CALL JPA MAPPER
     @Autowired
     private TicketDetailJPAMapper ticketDetailJPAMapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public Optional<TicketDetail> findById(Long id) {
-        log.info("Implement Infrastructure : {}", id);
+        log.debug("Implement Infrastructure : {}", id);
         return ticketDetailJPAMapper.findById(id);
     }
+
+    @Override
+    public List<TicketDetail> findByActivityId(Long activityId) {
+        return ticketDetailJPAMapper.findByActivityId(activityId);
+    }
+
+    // idx_activity_id; MySQL optimizer hint: the server aborts the SELECT after timeoutMillis (the JPA hint is rounded to seconds)
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<TicketDetail> findByActivityId(Long activityId, long timeoutMillis) {
+        return entityManager.createNativeQuery(
+                        "select /*+ MAX_EXECUTION_TIME(" + Math.max(1, timeoutMillis) + ") */ * from ticket_item where activity_id = :activityId",
+                        TicketDetail.class)
+                .setParameter("activityId", activityId)
+                .getResultList();
+    }
+
+    // deferred join: the page of ids comes from the index alone, then at most `limit` rows by primary key
+    @Override
+    public List<TicketDetail> findPage(Integer status, Date from, Date to, Date afterStart, long afterId, int limit) {
+        List<Long> ids = status == null
+                ? ticketDetailJPAMapper.findPageIds(from, to, afterStart, afterId, Limit.of(limit))
+                : ticketDetailJPAMapper.findPageIdsByStatus(status, from, to, afterStart, afterId, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TicketDetail> rows = new HashMap<>(ids.size() * 2);
+        for (TicketDetail ticketDetail : ticketDetailJPAMapper.findAllById(ids)) {
+            rows.put(ticketDetail.getId(), ticketDetail);
+        }
+        List<TicketDetail> page = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TicketDetail ticketDetail = rows.get(id);
+            if (ticketDetail != null) { // deleted between the two queries
+                page.add(ticketDetail);
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public List<TicketDetail> findUpdatedAfter(Date afterUpdated, long afterId, int limit) {
+        return ticketDetailJPAMapper.findUpdatedAfter(afterUpdated, afterId, Limit.of(limit));
+    }
+
+    @Override
+    public List<TicketDetail> findSaleWindowsBetween(Date from, Date to) {
+        return ticketDetailJPAMapper.findSaleWindowsBetween(from, to);
+    }
+
+    @Override
+    public List<TicketDetail> findMissedSaleTransitions(Date now) {
+        return ticketDetailJPAMapper.findMissedSaleTransitions(now);
+    }
+
+    @Override
+    public int updateStatus(Long id, int status) {
+        return ticketDetailJPAMapper.updateStatus(id, status);
+    }
+
+    @Override
+    public Map<Long, Long> findVersions(Collection<Long> ids) {
+        Map<Long, Long> versions = new HashMap<>(ids.size() * 2);
+        for (Object[] row : ticketDetailJPAMapper.findVersions(ids)) {
+            versions.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return versions;
+    }
 }
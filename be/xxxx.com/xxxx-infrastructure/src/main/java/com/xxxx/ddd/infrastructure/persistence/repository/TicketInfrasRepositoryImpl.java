@@ -0,0 +1,48 @@
+package com.xxxx.ddd.infrastructure.persistence.repository;
+
+import com.xxxx.ddd.domain.model.entity.Ticket;
+import com.xxxx.ddd.domain.repository.TicketRepository;
+import com.xxxx.ddd.infrastructure.persistence.mapper.TicketJPAMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Slf4j
+public class TicketInfrasRepositoryImpl implements TicketRepository {
+    @Autowired
+    private TicketJPAMapper ticketJPAMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Ticket> findById(Long id) {
+        return ticketJPAMapper.findTicketById(id);
+    }
+
+    // MySQL optimizer hint: the server aborts the SELECT after timeoutMillis (the JPA hint is rounded to seconds)
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public Optional<Ticket> findById(Long id, long timeoutMillis) {
+        List<Ticket> tickets = entityManager.createNativeQuery(
+                        "select /*+ MAX_EXECUTION_TIME(" + Math.max(1, timeoutMillis) + ") */ * from ticket where id = :id", Ticket.class)
+                .setParameter("id", id)
+                .getResultList();
+        return tickets.stream().findFirst();
+    }
+
+    @Override
+    public List<Ticket> findUpdatedAfter(Date afterUpdated, long afterId, int limit) {
+        return ticketJPAMapper.findUpdatedAfter(afterUpdated, afterId, Limit.of(limit));
+    }
+}
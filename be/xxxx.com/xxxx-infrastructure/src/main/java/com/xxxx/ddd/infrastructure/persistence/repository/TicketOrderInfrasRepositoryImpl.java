@@ -0,0 +1,59 @@
+package com.xxxx.ddd.infrastructure.persistence.repository;
+
+import com.xxxx.ddd.domain.model.entity.TicketOrder;
+import com.xxxx.ddd.domain.repository.TicketOrderRepository;
+import com.xxxx.ddd.infrastructure.id.SnowflakeIdGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Slf4j
+public class TicketOrderInfrasRepositoryImpl implements TicketOrderRepository {
+
+    // persist() instead of JpaRepository.save(): with an assigned id, save() would merge → one SELECT per order
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void insertAll(List<TicketOrder> ticketOrders) {
+        for (TicketOrder ticketOrder : ticketOrders) {
+            entityManager.persist(ticketOrder);
+        }
+        // inserts go out as JDBC batches (hibernate.jdbc.batch_size), then the context is released
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // idx_ticket_item_id; status 2 = cancelled
+    @Override
+    @Transactional(readOnly = true)
+    public long sumSoldQuantity(Long ticketItemId) {
+        Long sold = entityManager.createQuery(
+                        "select coalesce(sum(o.quantity), 0) from TicketOrder o where o.ticketItemId = :ticketItemId and o.status <> 2",
+                        Long.class)
+                .setParameter("ticketItemId", ticketItemId)
+                .getSingleResult();
+        return sold == null ? 0 : sold;
+    }
+
+    // snowflake layout: PK range for the time bound, worker bits filtered on the scanned rows
+    @Override
+    @Transactional(readOnly = true)
+    public long sumSoldQuantityByWorkerSince(Long ticketItemId, long workerId, long sinceMillis) {
+        Number sold = (Number) entityManager.createNativeQuery(
+                        "select coalesce(sum(quantity), 0) from ticket_order where ticket_item_id = :ticketItemId and status <> 2 " +
+                        "and id >= :minId and ((id >> " + SnowflakeIdGenerator.SEQUENCE_BITS + ") & " +
+                        ((1 << SnowflakeIdGenerator.WORKER_BITS) - 1) + ") = :workerId")
+                .setParameter("ticketItemId", ticketItemId)
+                .setParameter("minId", SnowflakeIdGenerator.minIdAt(sinceMillis))
+                .setParameter("workerId", workerId)
+                .getSingleResult();
+        return sold == null ? 0 : sold.longValue();
+    }
+}
@@ -0,0 +1,96 @@
+package com.xxxx.ddd.infrastructure.scheduler;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Netty HashedWheelTimer: O(1) schedule / cancel, one ticking thread for any number of pending tasks,
+ * precision = tick duration. Suited to hundreds of thousands of one-shot deadlines (sale windows).
+ *
+ * Tasks are keyed: scheduling an existing key is a no-op, so a periodic reload can re-submit the same
+ * deadlines safely. Fired tasks run on virtual threads so slow work (DB, Redis) never delays the wheel.
+ *
+ * The key is registered before the timeout is armed; firing and cancel both remove the entry, and only the one
+ * that removed it acts — a task fires at most once and never after a successful cancel.
+ */
+@Component
+@Slf4j
+public class TimingWheelScheduler {
+
+    private final HashedWheelTimer timer;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Entry> pending = new ConcurrentHashMap<>();
+
+    private static final class Entry {
+        volatile Timeout timeout;
+    }
+
+    public TimingWheelScheduler(@Value("${scheduler.timing-wheel.tick-millis:100}") long tickMillis,
+                                @Value("${scheduler.timing-wheel.ticks-per-wheel:512}") int ticksPerWheel) {
+        this.timer = new HashedWheelTimer(new DefaultThreadFactory("timing-wheel", true),
+                tickMillis, TimeUnit.MILLISECONDS, ticksPerWheel);
+    }
+
+    /**
+     * @param executeAtMillis epoch millis; a time in the past runs on the next tick
+     * @return false if a task with this key is already pending
+     */
+    public boolean schedule(String key, long executeAtMillis, Runnable task) {
+        Entry entry = new Entry();
+        if (pending.putIfAbsent(key, entry) != null) {
+            return false;
+        }
+        long delay = Math.max(0, executeAtMillis - System.currentTimeMillis());
+        try {
+            entry.timeout = timer.newTimeout(t -> {
+                if (!pending.remove(key, entry)) {
+                    return; // cancelled
+                }
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        log.error("Timing wheel task {} failed: {}", key, e.getMessage(), e);
+                    }
+                });
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            pending.remove(key, entry); // timer stopped
+            throw e;
+        }
+        return true;
+    }
+
+    public boolean cancel(String key) {
+        Entry entry = pending.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        Timeout timeout = entry.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        return true;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.stop();
+        executor.shutdown();
+    }
+}
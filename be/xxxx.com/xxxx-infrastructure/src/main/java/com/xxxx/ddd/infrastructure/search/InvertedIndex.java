@@ -0,0 +1,183 @@
+package com.xxxx.ddd.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process inverted index over folded words (TextFolding): term → (docId → weight).
+ *
+ * - Query: every word must match (AND); the last word also matches as a prefix (search-as-you-type),
+ *   expanded to the MAX_PREFIX_TERMS terms of the prefix range with the most documents (plus the word itself).
+ * - Score: sum of field weights of the matched words (e.g. name 3, description 1); ties by id.
+ * - Cost per query is bounded: at most MAX_CANDIDATES documents of the rarest word are scored, and only the
+ *   best {@code limit} hits are kept (min-heap), so a one-letter query over a large index stays cheap.
+ *   Past the cap the result is the best of the first MAX_CANDIDATES matches, not of all of them.
+ * - Reads are lock-free; writes are serialized. An update adds the new terms before removing the stale ones,
+ *   so a document never disappears from results while it is re-indexed.
+ */
+public class InvertedIndex<V> {
+
+    private static final int MAX_PREFIX_TERMS = 64;
+    private static final int MAX_CANDIDATES = 10_000;
+
+    // best first: score desc, then id asc
+    private static final Comparator<Hit<?>> RANKING = Comparator.<Hit<?>>comparingInt(Hit::score).reversed()
+            .thenComparingLong(Hit::id);
+
+    public record Field(String text, int weight) {
+    }
+
+    public record Hit<V>(long id, V value, int score) {
+    }
+
+    private record Doc<V>(V value, Map<String, Integer> terms) {
+    }
+
+    private record PrefixTerm(int documents, Map<Long, Integer> posting) {
+    }
+
+    private final ConcurrentSkipListMap<String, ConcurrentHashMap<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, Doc<V>> docs = new ConcurrentHashMap<>();
+
+    public synchronized void put(long id, V value, Field... fields) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (Field field : fields) {
+            for (String token : TextFolding.tokenize(field.text())) {
+                terms.merge(token, field.weight(), Math::max);
+            }
+        }
+
+        Doc<V> previous = docs.put(id, new Doc<>(value, terms));
+        terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(id, weight));
+        if (previous != null) {
+            for (String term : previous.terms().keySet()) {
+                if (!terms.containsKey(term)) {
+                    removePosting(term, id);
+                }
+            }
+        }
+    }
+
+    public synchronized void remove(long id) {
+        Doc<V> previous = docs.remove(id);
+        if (previous != null) {
+            previous.terms().keySet().forEach(term -> removePosting(term, id));
+        }
+    }
+
+    private void removePosting(String term, long id) {
+        ConcurrentHashMap<Long, Integer> posting = postings.get(term);
+        if (posting != null) {
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term, posting);
+            }
+        }
+    }
+
+    public List<Hit<V>> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(TextFolding.tokenize(query)));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // one docId → weight map per word; the last word as a prefix
+        List<Map<Long, Integer>> matches = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            Map<Long, Integer> match = i == tokens.size() - 1 ? prefixMatch(tokens.get(i)) : postings.get(tokens.get(i));
+            if (match == null || match.isEmpty()) {
+                return List.of();
+            }
+            matches.add(match);
+        }
+
+        // AND: walk the smallest list (capped), probe the others; keep the best `limit` in a min-heap
+        matches.sort(Comparator.comparingInt(Map::size));
+        PriorityQueue<Hit<V>> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        int scanned = 0;
+        for (Map.Entry<Long, Integer> candidate : matches.get(0).entrySet()) {
+            if (++scanned > MAX_CANDIDATES) {
+                break;
+            }
+            int score = candidate.getValue();
+            boolean all = true;
+            for (int i = 1; i < matches.size() && all; i++) {
+                Integer weight = matches.get(i).get(candidate.getKey());
+                if (weight == null) {
+                    all = false;
+                } else {
+                    score += weight;
+                }
+            }
+            if (!all || (top.size() == limit && !beats(score, candidate.getKey(), top.peek()))) {
+                continue;
+            }
+            Doc<V> doc = docs.get(candidate.getKey());
+            if (doc != null) {
+                top.add(new Hit<>(candidate.getKey(), doc.value(), score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        List<Hit<V>> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    private static boolean beats(int score, long id, Hit<?> worst) {
+        return score > worst.score() || (score == worst.score() && id < worst.id());
+    }
+
+    private Map<Long, Integer> prefixMatch(String prefix) {
+        NavigableMap<String, ConcurrentHashMap<Long, Integer>> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (range.size() == 1 || range.isEmpty()) {
+            return range.isEmpty() ? null : range.firstEntry().getValue();
+        }
+
+        // the MAX_PREFIX_TERMS most frequent terms (min-heap on document count), not the first ones alphabetically
+        // (count read once per term: postings change under concurrent writes)
+        PriorityQueue<PrefixTerm> frequent = new PriorityQueue<>(MAX_PREFIX_TERMS + 1, Comparator.comparingInt(PrefixTerm::documents));
+        for (Map.Entry<String, ConcurrentHashMap<Long, Integer>> term : range.entrySet()) {
+            if (term.getKey().equals(prefix)) {
+                continue; // the word as typed is always included, below
+            }
+            frequent.add(new PrefixTerm(term.getValue().size(), term.getValue()));
+            if (frequent.size() > MAX_PREFIX_TERMS) {
+                frequent.poll();
+            }
+        }
+
+        Map<Long, Integer> union = new HashMap<>();
+        Map<Long, Integer> exact = range.get(prefix);
+        if (exact != null) {
+            union.putAll(exact);
+        }
+        for (PrefixTerm term : frequent) {
+            term.posting().forEach((id, weight) -> union.merge(id, weight, Math::max));
+        }
+        return union;
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    public Set<Long> ids() {
+        return docs.keySet();
+    }
+}
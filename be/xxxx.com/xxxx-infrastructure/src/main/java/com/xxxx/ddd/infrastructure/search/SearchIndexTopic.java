@@ -0,0 +1,14 @@
+package com.xxxx.ddd.infrastructure.search;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Cluster-wide "document changed, re-index it" notifications. The publisher receives its own message.
+ */
+public interface SearchIndexTopic {
+
+    void publish(String docType, long id);
+
+    // handler(docType, id); called on a Redisson thread
+    void subscribe(BiConsumer<String, Long> handler);
+}
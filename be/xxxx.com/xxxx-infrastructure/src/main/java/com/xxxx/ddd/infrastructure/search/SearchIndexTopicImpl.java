@@ -0,0 +1,67 @@
+package com.xxxx.ddd.infrastructure.search;
+
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Messages are "docType:id" strings on PRO_TICKET:SEARCH:CHANGED.
+ * If Redis is unreachable the change is applied on this node only; the other nodes pick it up with their
+ * periodic updated_at refresh.
+ */
+@Service
+@Slf4j
+public class SearchIndexTopicImpl implements SearchIndexTopic {
+
+    private static final String TOPIC = "PRO_TICKET:SEARCH:CHANGED";
+
+    @Resource
+    private RedissonClient redissonClient;
+
+    private volatile BiConsumer<String, Long> handler;
+
+    @Override
+    public void publish(String docType, long id) {
+        // async: called from the committing thread (post-commit listener)
+        try {
+            getTopic().publishAsync(docType + ":" + id).whenComplete((receivers, e) -> {
+                if (e != null) {
+                    applyLocally(docType, id, e);
+                }
+            });
+        } catch (Exception e) {
+            applyLocally(docType, id, e);
+        }
+    }
+
+    private void applyLocally(String docType, long id, Throwable cause) {
+        log.warn("Search index broadcast failed for {}:{}, applying locally: {}", docType, id, cause.getMessage());
+        BiConsumer<String, Long> local = handler;
+        if (local != null) {
+            local.accept(docType, id);
+        }
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, Long> handler) {
+        this.handler = handler;
+        try {
+            getTopic().addListener(String.class, (channel, message) -> {
+                int separator = message.lastIndexOf(':');
+                handler.accept(message.substring(0, separator), Long.parseLong(message.substring(separator + 1)));
+            });
+            log.info("Subscribed to search index topic {}", TOPIC);
+        } catch (Exception e) {
+            log.warn("Search index topic subscription failed, relying on the periodic refresh: {}", e.getMessage());
+        }
+    }
+
+    private RTopic getTopic() {
+        return redissonClient.getTopic(TOPIC, StringCodec.INSTANCE);
+    }
+}
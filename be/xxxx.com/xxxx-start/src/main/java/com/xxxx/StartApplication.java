@@ -2,18 +2,15 @@ package com.xxxx;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class StartApplication {
     public static void main(String[] args) {
 //        IO.println(String.format("Hello and welcome!"));
-        SpringApplication.run(StartApplication.class, args);
-    }
-
-    @Bean
-    public RestTemplate restTemplate(){
-        return new RestTemplate();
+        SpringApplication application = new SpringApplication(StartApplication.class);
+        // records every startup step → /actuator/startup + StartupTimingReporter
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 }
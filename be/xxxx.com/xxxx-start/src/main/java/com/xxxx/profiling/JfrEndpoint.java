@@ -0,0 +1,95 @@
+package com.xxxx.profiling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * /actuator/jfr — on-demand Java Flight Recorder profiles (see docs/10_jfr-profiling.md).
+ *
+ * - GET    /actuator/jfr                    recordings + limits
+ * - POST   /actuator/jfr                    {"settings": "profile", "durationSeconds": 60} → starts a fixed-duration recording
+ * - DELETE /actuator/jfr/{id}               stop early (the file is still written)
+ * - GET    /actuator/jfr/{id}               the .jfr file (open in JDK Mission Control)
+ * - GET    /actuator/jfr/{id}/summary       hot methods, allocations, lock contention, pinning, GC
+ */
+@Component
+@Endpoint(id = "jfr")
+@Slf4j
+@ConditionalOnProperty(name = "profiling.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrEndpoint {
+
+    private static final String DEFAULT_SETTINGS = "profile";
+    private static final long DEFAULT_DURATION_SECONDS = 60;
+    private static final int SUMMARY_TOP = 20;
+
+    @Autowired
+    private JfrRecordingManager jfrRecordingManager;
+
+    @ReadOperation
+    public Map<String, Object> recordings() {
+        return Map.of("recordings", jfrRecordingManager.list(), "limits", jfrRecordingManager.limits());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable String settings, @Nullable Long durationSeconds) {
+        try {
+            return new WebEndpointResponse<>(jfrRecordingManager.start(
+                    settings == null ? DEFAULT_SETTINGS : settings,
+                    durationSeconds == null ? DEFAULT_DURATION_SECONDS : durationSeconds));
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(Map.of("error", e.getMessage()), 409);
+        } catch (Exception e) {
+            log.warn("JFR recording could not be started: {}", e.getMessage());
+            return new WebEndpointResponse<>(Map.of("error", String.valueOf(e.getMessage())), WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Object> stop(@Selector long id) {
+        JfrRecordingManager.RecordingInfo info = jfrRecordingManager.stop(id);
+        return info == null ? new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND) : new WebEndpointResponse<>(info);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> file(@Selector long id) {
+        Path file = jfrRecordingManager.finishedFile(id);
+        if (file == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(file));
+    }
+
+    // {report} = "summary"; 404 while the recording is still running
+    @ReadOperation
+    public WebEndpointResponse<Object> report(@Selector long id, @Selector String report) {
+        if (!"summary".equals(report)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = jfrRecordingManager.finishedFile(id);
+        if (file == null) {
+            return new WebEndpointResponse<>(Map.of("recording", String.valueOf(jfrRecordingManager.get(id))), WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            return new WebEndpointResponse<>(JfrSummary.read(file, SUMMARY_TOP));
+        } catch (Exception e) {
+            log.warn("JFR summary failed for {}: {}", file, e.getMessage());
+            return new WebEndpointResponse<>(Map.of("error", String.valueOf(e.getMessage())), WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.xxxx.profiling;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Fixed-duration JFR recordings started on demand (JfrEndpoint).
+ *
+ * Bounds:
+ * - at most max-concurrent recordings running, each at most max-duration-seconds and max-size-mb
+ *   (JFR drops the oldest chunks above the size; the global JFR buffers are fixed-size)
+ * - finished recordings are dumped to {directory}/{name}.jfr; only the newest max-retained files are kept
+ *   → disk ≤ max-retained × max-size-mb
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "profiling.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrRecordingManager {
+
+    public record RecordingInfo(long id, String name, String settings, RecordingState state, Instant startedAt,
+                                long durationSeconds, long sizeBytes, String file) {
+    }
+
+    private record Entry(Recording recording, String settings, Instant startedAt, Path file) {
+    }
+
+    @Value("${profiling.jfr.directory:data/jfr}")
+    private String directory;
+
+    @Value("${profiling.jfr.max-duration-seconds:300}")
+    private long maxDurationSeconds;
+
+    @Value("${profiling.jfr.max-size-mb:100}")
+    private long maxSizeMb;
+
+    @Value("${profiling.jfr.max-concurrent:1}")
+    private int maxConcurrent;
+
+    @Value("${profiling.jfr.max-retained:5}")
+    private int maxRetained;
+
+    // insertion order = start order; guarded by this
+    private final Map<Long, Entry> recordings = new LinkedHashMap<>();
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(directory).toAbsolutePath();
+        Files.createDirectories(root);
+        // files left by earlier runs count against retention
+        try (Stream<Path> files = Files.list(root)) {
+            List<Path> old = files.filter(p -> p.toString().endsWith(".jfr"))
+                    .sorted(Comparator.comparing(p -> p.toFile().lastModified()))
+                    .toList();
+            for (int i = 0; i < old.size() - maxRetained; i++) {
+                Files.deleteIfExists(old.get(i));
+            }
+        }
+    }
+
+    public synchronized RecordingInfo start(String settings, long durationSeconds) throws IOException, ParseException {
+        if (durationSeconds <= 0 || durationSeconds > maxDurationSeconds) {
+            throw new IllegalArgumentException("durationSeconds must be in 1.." + maxDurationSeconds);
+        }
+        if (Configuration.getConfigurations().stream().noneMatch(c -> c.getName().equals(settings))) {
+            throw new IllegalArgumentException("Unknown JFR settings '" + settings + "' (default | profile)");
+        }
+        long running = recordings.values().stream().filter(e -> isActive(e.recording())).count();
+        if (running >= maxConcurrent) {
+            throw new IllegalStateException(running + " recording(s) already running (max " + maxConcurrent + ")");
+        }
+        prune(maxRetained - 1);
+
+        Instant now = Instant.now();
+        Recording recording = new Recording(Configuration.getConfiguration(settings));
+        String name = "xxxx-" + now.toEpochMilli();
+        Path file = root.resolve(name + ".jfr");
+        recording.setName(name);
+        recording.setToDisk(true);
+        recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        recording.setDuration(Duration.ofSeconds(durationSeconds));
+        recording.setDestination(file); // written when the duration elapses or on stop()
+        recording.start();
+
+        recordings.put(recording.getId(), new Entry(recording, settings, now, file));
+        log.info("JFR recording {} started: settings={}, duration={}s, file={}", recording.getId(), settings, durationSeconds, file);
+        return toInfo(recordings.get(recording.getId()));
+    }
+
+    // stops early and writes the file; null if unknown
+    public synchronized RecordingInfo stop(long id) {
+        Entry entry = recordings.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (isActive(entry.recording())) {
+            entry.recording().stop();
+            log.info("JFR recording {} stopped early", id);
+        }
+        return toInfo(entry);
+    }
+
+    public synchronized List<RecordingInfo> list() {
+        List<RecordingInfo> infos = new ArrayList<>(recordings.size());
+        for (Entry entry : recordings.values()) {
+            infos.add(toInfo(entry));
+        }
+        return infos;
+    }
+
+    public synchronized RecordingInfo get(long id) {
+        Entry entry = recordings.get(id);
+        return entry == null ? null : toInfo(entry);
+    }
+
+    // the .jfr file once the recording has finished, else null
+    public synchronized Path finishedFile(long id) {
+        Entry entry = recordings.get(id);
+        if (entry == null || isActive(entry.recording()) || !Files.exists(entry.file())) {
+            return null;
+        }
+        return entry.file();
+    }
+
+    public synchronized Map<String, Object> limits() {
+        return Map.of(
+                "directory", root.toString(),
+                "maxDurationSeconds", maxDurationSeconds,
+                "maxSizeMb", maxSizeMb,
+                "maxConcurrent", maxConcurrent,
+                "maxRetained", maxRetained);
+    }
+
+    // keep at most `keep` finished recordings (and their files), oldest first out
+    private void prune(int keep) {
+        List<Long> finished = recordings.entrySet().stream()
+                .filter(e -> !isActive(e.getValue().recording()))
+                .map(Map.Entry::getKey)
+                .toList();
+        for (int i = 0; i < finished.size() - keep; i++) {
+            Entry entry = recordings.remove(finished.get(i));
+            entry.recording().close();
+            try {
+                Files.deleteIfExists(entry.file());
+            } catch (IOException e) {
+                log.warn("Could not delete JFR file {}: {}", entry.file(), e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isActive(Recording recording) {
+        RecordingState state = recording.getState();
+        return state == RecordingState.NEW || state == RecordingState.DELAYED || state == RecordingState.RUNNING;
+    }
+
+    private RecordingInfo toInfo(Entry entry) {
+        Recording recording = entry.recording();
+        long size = isActive(recording) ? recording.getSize() : entry.file().toFile().length();
+        Duration duration = recording.getDuration();
+        return new RecordingInfo(recording.getId(), recording.getName(), entry.settings(), recording.getState(),
+                entry.startedAt(), duration == null ? 0 : duration.toSeconds(), size, entry.file().toString());
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        // running recordings are discarded, not dumped: shutdown should not wait on disk I/O
+        for (Entry entry : recordings.values()) {
+            entry.recording().close();
+        }
+        recordings.clear();
+    }
+}
@@ -0,0 +1,111 @@
+package com.xxxx.profiling;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Condensed report of a .jfr file, read event by event (memory ~ number of distinct methods/classes, not file size):
+ * - hotMethods: jdk.ExecutionSample by top frame (self time), in samples
+ * - allocationsByClass / allocationsBySite: jdk.ObjectAllocationSample weight (estimated bytes) by class / top frame
+ * - monitorBlocked: jdk.JavaMonitorEnter total ms by top frame (lock contention)
+ * - pinned: jdk.VirtualThreadPinned count by top frame (synchronized / native under a virtual thread)
+ * - gc: jdk.GarbageCollection count, total and max pause
+ * - cacheLookups: com.xxxx.TicketCacheLookup count by "tier outcome"
+ * - lockWaits: com.xxxx.DistributedLockAcquire total wait µs by result
+ * - dbLoads: com.xxxx.TicketDbLoad total µs by source
+ */
+public record JfrSummary(long events, long durationMs, List<Item> hotMethods, List<Item> allocationsByClass,
+                         List<Item> allocationsBySite, List<Item> monitorBlocked, List<Item> pinned, Gc gc,
+                         List<Item> cacheLookups, List<Item> lockWaits, List<Item> dbLoads) {
+
+    public record Item(String name, long value, double percent) {
+    }
+
+    public record Gc(long count, long totalPauseMs, long maxPauseMs) {
+    }
+
+    public static JfrSummary read(Path file, int top) throws IOException {
+        Map<String, Long> hot = new HashMap<>();
+        Map<String, Long> allocClass = new HashMap<>();
+        Map<String, Long> allocSite = new HashMap<>();
+        Map<String, Long> blocked = new HashMap<>();
+        Map<String, Long> pinned = new HashMap<>();
+        Map<String, Long> cacheLookups = new HashMap<>();
+        Map<String, Long> lockWaits = new HashMap<>();
+        Map<String, Long> dbLoads = new HashMap<>();
+        long events = 0;
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        long gcCount = 0;
+        long gcTotalNanos = 0;
+        long gcMaxNanos = 0;
+
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                events++;
+                long start = event.getStartTime().toEpochMilli();
+                first = Math.min(first, start);
+                last = Math.max(last, start);
+                switch (event.getEventType().getName()) {
+                    case "jdk.ExecutionSample" -> hot.merge(topFrame(event.getStackTrace()), 1L, Long::sum);
+                    case "jdk.ObjectAllocationSample" -> {
+                        long weight = event.getLong("weight");
+                        RecordedClass objectClass = event.getClass("objectClass");
+                        allocClass.merge(objectClass == null ? "?" : objectClass.getName(), weight, Long::sum);
+                        allocSite.merge(topFrame(event.getStackTrace()), weight, Long::sum);
+                    }
+                    case "jdk.JavaMonitorEnter" -> blocked.merge(topFrame(event.getStackTrace()), event.getDuration().toMillis(), Long::sum);
+                    case "jdk.VirtualThreadPinned" -> pinned.merge(topFrame(event.getStackTrace()), 1L, Long::sum);
+                    case "jdk.GarbageCollection" -> {
+                        long pause = event.getDuration("sumOfPauses").toNanos();
+                        gcCount++;
+                        gcTotalNanos += pause;
+                        gcMaxNanos = Math.max(gcMaxNanos, pause);
+                    }
+                    case "com.xxxx.TicketCacheLookup" ->
+                            cacheLookups.merge(event.getString("tier") + " " + event.getString("outcome"), 1L, Long::sum);
+                    case "com.xxxx.DistributedLockAcquire" ->
+                            lockWaits.merge(event.getString("result"), event.getDuration().toNanos() / 1_000, Long::sum);
+                    case "com.xxxx.TicketDbLoad" -> dbLoads.merge(event.getString("source"), event.getDuration().toNanos() / 1_000, Long::sum);
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        return new JfrSummary(events, events == 0 ? 0 : last - first,
+                top(hot, top), top(allocClass, top), top(allocSite, top), top(blocked, top), top(pinned, top),
+                new Gc(gcCount, gcTotalNanos / 1_000_000, gcMaxNanos / 1_000_000),
+                top(cacheLookups, top), top(lockWaits, top), top(dbLoads, top));
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "?";
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        RecordedMethod method = frame.getMethod();
+        return method.getType().getName() + "." + method.getName();
+    }
+
+    private static List<Item> top(Map<String, Long> counts, int limit) {
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(e -> new Item(e.getKey(), e.getValue(), total == 0 ? 0 : Math.round(e.getValue() * 1000.0 / total) / 10.0))
+                .toList();
+    }
+}
@@ -0,0 +1,401 @@
+package com.xxxx.seed;
+
+import com.xxxx.ddd.application.service.ticket.TicketDetailAppService;
+import com.xxxx.ddd.application.service.ticket.cache.TicketStockCacheService;
+import com.xxxx.ddd.domain.model.enums.TicketItemStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates millions of ticket / ticket_item / ticket_order rows for performance work.
+ *
+ * - IDs are written explicitly (no AUTO_INCREMENT gaps), so orders can reference items without a lookup:
+ *   ticket id = 1..activities, item id = (activityId - 1) * itemsPerActivity + n.
+ * - Rows are inserted by {@code seed.threads} workers in {@code seed.batch-size} batches of a single
+ *   parameterized INSERT, which the MySQL driver rewrites to multi-row INSERTs
+ *   (rewriteBatchedStatements=true in application-seed.yml).
+ * - Orders pick their item with a Zipf distribution ({@code seed.skew}) to produce a realistic hot set.
+ * - Orders are consistent with stock: a non-cancelled order takes its quantity from the item's remaining stock
+ *   (at most {@code seed.max-sold-ratio} of stock_initial) and from the user's per-activity limit
+ *   (ticket.order.max-per-user), re-sampling the item a few times when either is used up, else it is written
+ *   as cancelled. stock_available is set to stock_initial - sold afterwards, so the Redis stock seeded from the
+ *   order ledger (TicketStockCacheService.initStock) matches the table.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class BulkDataGenerator {
+
+    private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+    private static final int ORDER_ATTEMPTS = 8;
+    private static final int STATUS_CANCELLED = 2;
+
+    private final JdbcTemplate jdbc;
+    private final SeedProperties props;
+    private final TicketDetailAppService ticketDetailAppService;
+    private final TicketStockCacheService ticketStockCacheService;
+
+    public void generate() {
+        long totalItems = (long) props.getActivities() * props.getItemsPerActivity();
+        log.info("[SEED] Bulk: activities={}, items={}, orders={}, users={}, skew={}, threads={}, batchSize={}",
+                props.getActivities(), totalItems, props.getOrders(), props.getUsers(), props.getSkew(),
+                props.getThreads(), props.getBatchSize());
+
+        clearTables();
+
+        StockLedger ledger = new StockLedger(totalItems, props.getUsers(), ticketStockCacheService.getMaxPerUser());
+        ExecutorService executor = Executors.newFixedThreadPool(props.getThreads());
+        try {
+            run(executor, "ticket", props.getActivities(), this::insertTickets);
+            run(executor, "ticket_item", totalItems, (from, to) -> insertTicketItems(from, to, ledger));
+            ledger.openSales(props.getMaxSoldRatio());
+            ZipfSampler itemSampler = new ZipfSampler(totalItems, props.getSkew());
+            run(executor, "ticket_order", props.getOrders(), (from, to) -> insertOrders(from, to, itemSampler, ledger));
+            updateStockAvailable(totalItems, ledger);
+        } finally {
+            executor.shutdown();
+        }
+
+        if (props.isPrefillRedis()) {
+            prefillRedis(Math.min(props.getPrefillTop(), totalItems));
+        }
+    }
+
+    // ------------------------------------------------------------------ //
+    //  Clear
+    // ------------------------------------------------------------------ //
+
+    private void clearTables() {
+        log.info("[SEED] Truncating tables...");
+        jdbc.execute("TRUNCATE TABLE ticket_order");
+        jdbc.execute("TRUNCATE TABLE ticket_item");
+        jdbc.execute("TRUNCATE TABLE ticket");
+    }
+
+    // ------------------------------------------------------------------ //
+    //  Parallel batched insert
+    // ------------------------------------------------------------------ //
+
+    @FunctionalInterface
+    private interface RangeInserter {
+        void insert(long fromId, long toIdExclusive);
+    }
+
+    private void run(ExecutorService executor, String table, long total, RangeInserter inserter) {
+        long start = System.nanoTime();
+        AtomicLong done = new AtomicLong();
+        long logEvery = Math.max(total / 10, props.getBatchSize());
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (long from = 1; from <= total; from += props.getBatchSize()) {
+            long batchFrom = from;
+            long batchTo = Math.min(from + props.getBatchSize(), total + 1);
+            futures.add(executor.submit(() -> {
+                inserter.insert(batchFrom, batchTo);
+                long count = done.addAndGet(batchTo - batchFrom);
+                if (count / logEvery != (count - (batchTo - batchFrom)) / logEvery) {
+                    log.info("[SEED] {}: {}/{}", table, count, total);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                throw new IllegalStateException("[SEED] insert into " + table + " failed", e);
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("[SEED] Inserted {} rows into {} in {}s ({} rows/s).",
+                total, table, String.format("%.1f", seconds), Math.round(total / Math.max(seconds, 0.001)));
+    }
+
+    private void insertTickets(long fromId, long toId) {
+        String sql = """
+                INSERT INTO ticket (id, name, `desc`, start_time, end_time, status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, NOW(), NOW())
+                """;
+        jdbc.batchUpdate(sql, new RangeSetter(fromId, toId) {
+            @Override
+            void set(PreparedStatement ps, long id) throws SQLException {
+                long startMillis = saleStart(id);
+                ps.setLong(1, id);
+                ps.setString(2, "Đợt Mở Bán Vé #" + id);
+                ps.setString(3, "Sự kiện mở bán vé #" + id);
+                ps.setTimestamp(4, new Timestamp(startMillis));
+                ps.setTimestamp(5, new Timestamp(startMillis + DAY_MILLIS - 1000));
+                ps.setInt(6, status(startMillis) == TicketItemStatus.ACTIVE.code() ? 1 : 0); // ticket.status: 0 / 1 only
+            }
+        });
+    }
+
+    private void insertTicketItems(long fromId, long toId, StockLedger ledger) {
+        String sql = """
+                INSERT INTO ticket_item
+                    (id, name, description, stock_initial, stock_available, is_stock_prepared,
+                     price_original, price_flash, sale_start_time, sale_end_time,
+                     status, activity_id, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+                """;
+        int itemsPerActivity = props.getItemsPerActivity();
+        jdbc.batchUpdate(sql, new RangeSetter(fromId, toId) {
+            @Override
+            void set(PreparedStatement ps, long id) throws SQLException {
+                long activityId = (id - 1) / itemsPerActivity + 1;
+                int tier = (int) ((id - 1) % itemsPerActivity);
+                long startMillis = saleStart(activityId);
+                int stock = 100 * (1 + ThreadLocalRandom.current().nextInt(20));
+                ledger.setStockInitial(id, stock);
+                long priceOriginal = 100_000L * (tier + 1);
+
+                ps.setLong(1, id);
+                ps.setString(2, "Vé Sự Kiện #" + activityId + " - Hạng " + (tier + 1));
+                ps.setString(3, "Vé hạng " + (tier + 1) + " cho sự kiện #" + activityId);
+                ps.setInt(4, stock);
+                ps.setInt(5, stock);
+                ps.setBoolean(6, false);
+                ps.setLong(7, priceOriginal);
+                ps.setLong(8, priceOriginal / 10);
+                ps.setTimestamp(9, new Timestamp(startMillis));
+                ps.setTimestamp(10, new Timestamp(startMillis + DAY_MILLIS - 1000));
+                ps.setInt(11, status(startMillis));
+                ps.setLong(12, activityId);
+            }
+        });
+    }
+
+    private void insertOrders(long fromId, long toId, ZipfSampler itemSampler, StockLedger ledger) {
+        String sql = """
+                INSERT INTO ticket_order
+                    (id, user_id, ticket_item_id, activity_id, quantity, amount, status, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+                """;
+        int itemsPerActivity = props.getItemsPerActivity();
+        long users = props.getUsers();
+        jdbc.batchUpdate(sql, new RangeSetter(fromId, toId) {
+            @Override
+            void set(PreparedStatement ps, long id) throws SQLException {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long userId = 1 + random.nextLong(users);
+                int wanted = 1 + random.nextInt(4);
+                int status = random.nextInt(3);
+
+                // cancelled orders hold no stock; the others take what the item and the user's limit still allow
+                long itemId = itemSampler.sample(random);
+                int quantity = wanted;
+                if (status != STATUS_CANCELLED) {
+                    int granted = 0;
+                    for (int attempt = 0; attempt < ORDER_ATTEMPTS && granted == 0; attempt++) {
+                        if (attempt > 0) {
+                            itemId = itemSampler.sample(random);
+                        }
+                        granted = ledger.reserve(itemId, (itemId - 1) / itemsPerActivity + 1, userId, wanted);
+                    }
+                    if (granted == 0) {
+                        status = STATUS_CANCELLED; // nothing left for this user: a failed order
+                    } else {
+                        quantity = granted;
+                    }
+                }
+                int tier = (int) ((itemId - 1) % itemsPerActivity);
+
+                ps.setLong(1, id);
+                ps.setLong(2, userId);
+                ps.setLong(3, itemId);
+                ps.setLong(4, (itemId - 1) / itemsPerActivity + 1);
+                ps.setInt(5, quantity);
+                ps.setLong(6, 10_000L * (tier + 1) * quantity);
+                ps.setInt(7, status);
+            }
+        });
+    }
+
+    private void updateStockAvailable(long totalItems, StockLedger ledger) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= totalItems; id++) {
+            int sold = ledger.sold(id);
+            if (sold > 0) {
+                rows.add(new Object[]{sold, id});
+            }
+        }
+        jdbc.batchUpdate("UPDATE ticket_item SET stock_available = stock_initial - ? WHERE id = ?", rows, props.getBatchSize(),
+                (ps, row) -> {
+                    ps.setInt(1, (Integer) row[0]);
+                    ps.setLong(2, (Long) row[1]);
+                });
+        log.info("[SEED] stock_available updated for {} items with sales.", rows.size());
+    }
+
+    /**
+     * Sale windows spread over -15..+15 days around today: past, running and upcoming activities.
+     */
+    private static long saleStart(long activityId) {
+        long today = System.currentTimeMillis() / DAY_MILLIS * DAY_MILLIS;
+        return today + ((activityId % 31) - 15) * DAY_MILLIS;
+    }
+
+    // ticket_item.status of the window: INACTIVE before, ACTIVE during, ENDED after
+    private static int status(long startMillis) {
+        return TicketItemStatus.of(new Date(startMillis), new Date(startMillis + DAY_MILLIS - 1000), System.currentTimeMillis()).code();
+    }
+
+    // ------------------------------------------------------------------ //
+    //  Redis
+    // ------------------------------------------------------------------ //
+
+    private void prefillRedis(long top) {
+        log.info("[SEED] Prefilling Redis with the {} hottest ticket items...", top);
+        for (long id = 1; id <= top; id++) {
+            ticketDetailAppService.getTicketDetailById(id); // local miss → Redis miss → DB → set Redis
+        }
+        log.info("[SEED] Redis prefilled.");
+    }
+
+    // ------------------------------------------------------------------ //
+    //  Helpers
+    // ------------------------------------------------------------------ //
+
+    private abstract static class RangeSetter implements BatchPreparedStatementSetter {
+        private final long fromId;
+        private final int size;
+
+        RangeSetter(long fromId, long toIdExclusive) {
+            this.fromId = fromId;
+            this.size = (int) (toIdExclusive - fromId);
+        }
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            set(ps, fromId + i);
+        }
+
+        @Override
+        public int getBatchSize() {
+            return size;
+        }
+
+        abstract void set(PreparedStatement ps, long id) throws SQLException;
+    }
+
+    /**
+     * Stock and per-user counts of the orders generated so far, shared by the insert workers.
+     */
+    static final class StockLedger {
+        private final int[] stockInitial;
+        private final AtomicIntegerArray sold;
+        private final AtomicIntegerArray saleable;
+        private final Map<Long, Integer> userBought = new ConcurrentHashMap<>();
+        private final long users;
+        private final int maxPerUser;
+
+        StockLedger(long items, long users, int maxPerUser) {
+            this.stockInitial = new int[Math.toIntExact(items)];
+            this.sold = new AtomicIntegerArray(stockInitial.length);
+            this.saleable = new AtomicIntegerArray(stockInitial.length);
+            this.users = users;
+            this.maxPerUser = maxPerUser;
+        }
+
+        void setStockInitial(long itemId, int stock) {
+            stockInitial[(int) (itemId - 1)] = stock;
+        }
+
+        void openSales(double maxSoldRatio) {
+            for (int i = 0; i < stockInitial.length; i++) {
+                saleable.set(i, (int) (stockInitial[i] * maxSoldRatio));
+            }
+        }
+
+        /**
+         * @return quantity actually granted (capped by the item's saleable stock and the user's remaining limit), 0 if none
+         */
+        int reserve(long itemId, long activityId, long userId, int wanted) {
+            int[] granted = {0};
+            userBought.compute(activityId * (users + 1) + userId, (key, bought) -> {
+                int have = bought == null ? 0 : bought;
+                int quantity = takeStock((int) (itemId - 1), Math.min(wanted, maxPerUser - have));
+                granted[0] = quantity;
+                return quantity == 0 ? bought : Integer.valueOf(have + quantity);
+            });
+            return granted[0];
+        }
+
+        int sold(long itemId) {
+            return sold.get((int) (itemId - 1));
+        }
+
+        private int takeStock(int index, int wanted) {
+            while (wanted > 0) {
+                int left = saleable.get(index);
+                if (left <= 0) {
+                    return 0;
+                }
+                int quantity = Math.min(wanted, left);
+                if (saleable.compareAndSet(index, left, left - quantity)) {
+                    sold.addAndGet(index, quantity);
+                    return quantity;
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Zipf(n, s) sampler over 1..n using a precomputed CDF + binary search.
+     */
+    static final class ZipfSampler {
+        private final double[] cdf;
+
+        ZipfSampler(long n, double skew) {
+            if (n > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("too many items for the sampler: " + n);
+            }
+            cdf = new double[(int) n];
+            double sum = 0;
+            for (int rank = 1; rank <= n; rank++) {
+                sum += 1.0 / Math.pow(rank, skew);
+                cdf[rank - 1] = sum;
+            }
+            for (int i = 0; i < cdf.length; i++) {
+                cdf[i] /= sum;
+            }
+        }
+
+        long sample(ThreadLocalRandom random) {
+            double u = random.nextDouble();
+            int low = 0;
+            int high = cdf.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cdf[mid] < u) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low + 1L;
+        }
+    }
+}
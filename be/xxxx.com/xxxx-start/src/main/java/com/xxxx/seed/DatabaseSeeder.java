@@ -18,6 +18,10 @@ import java.util.List;
  *   mvn spring-boot:run -pl xxxx-start -Dspring-boot.run.arguments="--spring.profiles.active=seed"
  * Or with the fat jar:
  *   java -jar xxxx-start/target/xxxx-start-1.0-SNAPSHOT.jar --spring.profiles.active=seed
+ *
+ * High-volume synthetic data (see SeedProperties / BulkDataGenerator):
+ *   java -jar xxxx-start/target/xxxx-start-1.0-SNAPSHOT.jar --spring.profiles.active=seed \
+ *        --seed.mode=bulk --seed.activities=10000 --seed.orders=5000000 --seed.skew=1.1 --seed.prefill-redis=true
  */
 @Slf4j
 @Component
@@ -27,14 +31,20 @@ public class DatabaseSeeder implements CommandLineRunner {
 
     private final JdbcTemplate jdbc;
     private final ApplicationContext ctx;
+    private final SeedProperties props;
+    private final BulkDataGenerator bulkDataGenerator;
 
     @Override
     public void run(String... args) {
-        log.info("=== [SEED] Starting database seed ===");
-
-        clearTables();
-        seedTickets();
-        seedTicketItems();
+        log.info("=== [SEED] Starting database seed (mode={}) ===", props.getMode());
+
+        if (props.getMode() == SeedProperties.Mode.BULK) {
+            bulkDataGenerator.generate();
+        } else {
+            clearTables();
+            seedTickets();
+            seedTicketItems();
+        }
 
         log.info("=== [SEED] Done. Exiting. ===");
         System.exit(SpringApplication.exit(ctx, () -> 0));
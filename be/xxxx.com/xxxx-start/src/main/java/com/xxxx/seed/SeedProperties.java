@@ -0,0 +1,52 @@
+package com.xxxx.seed;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Parameters of the seed profile (prefix "seed", see application-seed.yml).
+ *
+ * Example:
+ *   --spring.profiles.active=seed --seed.mode=bulk --seed.activities=10000 --seed.orders=5000000 --seed.skew=1.1
+ */
+@Data
+@Component
+@Profile("seed")
+@ConfigurationProperties(prefix = "seed")
+public class SeedProperties {
+
+    public enum Mode {
+        FIXTURE, // the 2 tickets / 4 ticket items from ticket_init.sql
+        BULK     // synthetic data generated from the parameters below
+    }
+
+    private Mode mode = Mode.FIXTURE;
+
+    // volume
+    private int activities = 1_000;
+    private int itemsPerActivity = 10;
+    private long orders = 1_000_000;
+    private long users = 100_000;
+
+    /**
+     * Zipf exponent for the item each order points to: 0 = uniform, ~1 = realistic hot set, >1 = very hot.
+     * Item id 1 is the hottest, then 2, ...
+     */
+    private double skew = 1.0;
+
+    /**
+     * Share of each item's stock_initial that generated orders may sell. Below 1 the hottest items still have
+     * stock left for order / cache tests; the orders that find nothing left are written as cancelled.
+     */
+    private double maxSoldRatio = 0.8;
+
+    // insert tuning
+    private int batchSize = 5_000;
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // Redis
+    private boolean prefillRedis = false;
+    private int prefillTop = 1_000; // hottest N items loaded into Redis through the Level 3 cache path
+}
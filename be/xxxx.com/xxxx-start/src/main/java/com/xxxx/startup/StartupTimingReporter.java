@@ -0,0 +1,92 @@
+package com.xxxx.startup;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Startup-phase timing report.
+ *
+ * - On ApplicationReadyEvent, logs JVM start → main, main → ready and the slowest startup steps
+ *   recorded by BufferingApplicationStartup (full timeline: GET /actuator/startup).
+ * - Measures time-to-first-request (JVM start → first HTTP request finished) and exposes it as the
+ *   gauge "application.first.request.time", next to Spring Boot's application.started.time / application.ready.time.
+ */
+@Component
+@Slf4j
+public class StartupTimingReporter extends OncePerRequestFilter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final int SLOWEST_STEPS = 10;
+
+    private final AtomicLong firstRequestUptimeMillis = new AtomicLong(-1);
+
+    @Autowired
+    private ApplicationStartup applicationStartup;
+
+    @Autowired
+    public StartupTimingReporter(MeterRegistry meterRegistry) {
+        Gauge.builder("application.first.request.time", firstRequestUptimeMillis, v -> v.get() < 0 ? Double.NaN : v.get() / 1000.0)
+                .description("Time from JVM start until the first HTTP request was served")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        long jvmStartToMain = ManagementFactory.getRuntimeMXBean().getUptime() - event.getTimeTaken().toMillis();
+        log.info("[STARTUP] JVM start → main: {} ms, main → ready: {} ms (uptime {} ms)",
+                jvmStartToMain, event.getTimeTaken().toMillis(), ManagementFactory.getRuntimeMXBean().getUptime());
+
+        if (applicationStartup instanceof BufferingApplicationStartup bufferingStartup) {
+            StartupTimeline timeline = bufferingStartup.getBufferedTimeline();
+            timeline.getEvents().stream()
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(SLOWEST_STEPS)
+                    .forEach(step -> log.info("[STARTUP] {} ms  {} {}", step.getDuration().toMillis(),
+                            step.getStartupStep().getName(), describe(step)));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (firstRequestUptimeMillis.get() < 0) {
+                long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+                if (firstRequestUptimeMillis.compareAndSet(-1, uptime)) {
+                    log.info("[STARTUP] time to first request: {} ms ({} {})", uptime, request.getMethod(), request.getRequestURI());
+                }
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return firstRequestUptimeMillis.get() >= 0; // only the first request is timed
+    }
+
+    private static String describe(StartupTimeline.TimelineEvent step) {
+        StringBuilder tags = new StringBuilder();
+        step.getStartupStep().getTags().forEach(tag -> tags.append(tag.getKey()).append('=').append(tag.getValue()).append(' '));
+        return tags.toString().trim();
+    }
+}